@@ -0,0 +1,62 @@
+package benchmark;
+
+import org.dalton.polyfun.Atom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+
+/**
+ * Atom comparisons, which Term.reduce and Term.insert do for every pair of Atoms they look at.
+ */
+@State(Scope.Benchmark)
+public class AtomBenchmark {
+    @Param({"8", "64"})
+    public int numAtoms;
+
+    private Atom[] atoms;
+
+    @Setup
+    public void setUp() {
+        PolynomialFactory factory = new PolynomialFactory(1);
+        atoms = new Atom[numAtoms];
+
+        for (int i = 0; i < numAtoms; i++) {
+            atoms[i] = factory.createAtom();
+        }
+    }
+
+    @Benchmark
+    public Atom[] sort() {
+        Atom[] sorted = atoms.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public int countLikePairs() {
+        int count = 0;
+
+        for (Atom a : atoms) {
+            for (Atom b : atoms) {
+                if (a.isLike(b)) count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public Atom timesLikeAtom() {
+        Atom product = atoms[0];
+
+        for (int i = 1; i < atoms.length; i++) {
+            product = product.timesLikeAtom(atoms[i]);
+        }
+
+        return product;
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results as JSON, so they can be compared across releases.
+ * Takes the usual JMH command line options, e.g. a benchmark name pattern or -p degree=16.
+ * Results go to jmh-result.json unless -rff names another file.
+ * <p>
+ * The forked JVMs also get the JVM arguments the build put in benchmark.properties, e.g.
+ * --add-modules jdk.incubator.vector when built with JDK 17, followed by any -jvmArgsAppend.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        List<String> jvmArgs = new ArrayList<>(buildJvmArgs());
+        commandLine.getJvmArgsAppend().ifPresent(jvmArgs::addAll);
+
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLine.getResult().orElse("jmh-result.json"))
+                .jvmArgsAppend(jvmArgs.toArray(new String[0]))
+                .build();
+
+        new Runner(options).run();
+    }
+
+    /**
+     * The JVM arguments from benchmark.properties, or none if it is missing or empty.
+     */
+    private static List<String> buildJvmArgs() throws IOException {
+        Properties properties = new Properties();
+
+        try (InputStream in = BenchmarkRunner.class.getResourceAsStream("/benchmark.properties")) {
+            if (in != null) properties.load(in);
+        }
+
+        String jvmArgs = properties.getProperty("jvmArgs", "").trim();
+        return jvmArgs.isEmpty() ? new ArrayList<>() : Arrays.asList(jvmArgs.split("\\s+"));
+    }
+}
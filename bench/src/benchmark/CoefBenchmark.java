@@ -0,0 +1,53 @@
+package benchmark;
+
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.Term;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Coef.reduce, Coef.plus and Coef.times for Coefs with a given number of Terms.
+ */
+@State(Scope.Benchmark)
+public class CoefBenchmark {
+    @Param({"4", "16", "32"})
+    public int numTerms;
+
+    private Term[] terms;
+    private Coef coef;
+    private Coef other;
+
+    @Setup
+    public void setUp() {
+        PolynomialFactory factory = new PolynomialFactory(1);
+
+        terms = factory.createTerms(numTerms);
+        coef = new Coef(factory.createTerms(numTerms));
+        other = new Coef(factory.createTerms(numTerms));
+    }
+
+    /**
+     * Includes copying the Terms into a new Coef with setTerms (which does not reduce the Coef),
+     * since reduce() changes the Coef.
+     */
+    @Benchmark
+    public Coef reduce() {
+        Coef copy = new Coef();
+        copy.setTerms(terms);
+        copy.reduce();
+        return copy;
+    }
+
+    @Benchmark
+    public Coef plus() {
+        return coef.plus(other);
+    }
+
+    @Benchmark
+    public Coef times() {
+        return coef.times(other);
+    }
+}
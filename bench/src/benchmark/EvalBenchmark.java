@@ -0,0 +1,57 @@
+package benchmark;
+
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.Polynomial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Evaluating a numeric Polynomial at 4096 points (one plot row): eval() once per point against
+ * evalMany on the whole row. evaluateToCoef is the Coef-based path symbolic polynomials take.
+ */
+@State(Scope.Benchmark)
+public class EvalBenchmark {
+    @Param({"4", "16", "64"})
+    public int degree;
+
+    private Polynomial polynomial;
+    private double[] xs;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        polynomial = new PolynomialFactory(1).createNumericPolynomial(degree, 1.0);
+
+        Random random = new Random(1);
+        xs = new double[4096];
+        out = new double[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = random.nextDouble() * 2 - 1;
+        }
+    }
+
+    @Benchmark
+    public double[] eval() {
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = polynomial.eval(xs[i]);
+        }
+
+        return out;
+    }
+
+    @Benchmark
+    public double[] evalMany() {
+        polynomial.evalMany(xs, out, null);
+        return out;
+    }
+
+    @Benchmark
+    public Coef evaluateToCoef() {
+        return polynomial.evaluateToCoef(xs[0]);
+    }
+}
@@ -0,0 +1,43 @@
+package benchmark;
+
+import org.dalton.polyfun.DoublePolynomial;
+import org.dalton.polyfun.Polynomial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Multiplication of large numeric polynomials, as a Polynomial and as a DoublePolynomial.
+ */
+@State(Scope.Benchmark)
+public class NumericPolynomialBenchmark {
+    @Param({"64", "1024", "5000"})
+    public int degree;
+
+    private Polynomial polynomial;
+    private Polynomial other;
+    private DoublePolynomial doublePolynomial;
+    private DoublePolynomial otherDoublePolynomial;
+
+    @Setup
+    public void setUp() {
+        PolynomialFactory factory = new PolynomialFactory(1);
+
+        polynomial = factory.createNumericPolynomial(degree, 1.0);
+        other = factory.createNumericPolynomial(degree, 1.0);
+        doublePolynomial = new DoublePolynomial(polynomial);
+        otherDoublePolynomial = new DoublePolynomial(other);
+    }
+
+    @Benchmark
+    public Polynomial times() {
+        return polynomial.times(other);
+    }
+
+    @Benchmark
+    public DoublePolynomial doubleTimes() {
+        return doublePolynomial.times(otherDoublePolynomial);
+    }
+}
@@ -0,0 +1,59 @@
+package benchmark;
+
+import org.dalton.polyfun.Polynomial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Polynomial.plus, times, raiseTo and of, for numeric and symbolic coefficients.
+ * <p>
+ * raiseTo and of use a linear inner Polynomial. The number of Terms in symbolic products grows quickly,
+ * so keep the degrees small when adding parameters.
+ */
+@State(Scope.Benchmark)
+public class PolynomialBenchmark {
+    @Param({"numeric", "symbolic"})
+    public String kind;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    @Param({"0.25", "1.0"})
+    public double density;
+
+    private Polynomial polynomial;
+    private Polynomial other;
+    private Polynomial inner;
+
+    @Setup
+    public void setUp() {
+        PolynomialFactory factory = new PolynomialFactory(1);
+
+        polynomial = factory.createPolynomial(kind, degree, density);
+        other = factory.createPolynomial(kind, degree, density);
+        inner = factory.createPolynomial(kind, 1, 1.0);
+    }
+
+    @Benchmark
+    public Polynomial plus() {
+        return polynomial.plus(other);
+    }
+
+    @Benchmark
+    public Polynomial times() {
+        return polynomial.times(other);
+    }
+
+    @Benchmark
+    public Polynomial raiseTo() {
+        return inner.raiseTo(degree);
+    }
+
+    @Benchmark
+    public Polynomial of() {
+        return polynomial.of(inner);
+    }
+}
@@ -0,0 +1,114 @@
+package benchmark;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.Polynomial;
+import org.dalton.polyfun.Term;
+
+import java.util.Random;
+
+/**
+ * Random Atoms, Terms, Coefs and Polynomials for the benchmarks, along the lines of
+ * unittest.testlib.PolyPairFactory. Every factory starts from the same seed, so each benchmark run
+ * works on the same inputs.
+ */
+public class PolynomialFactory {
+    private Random random;
+
+    public PolynomialFactory(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * A random Atom with letter a-e, subscript 1-5 and power 1-4.
+     */
+    public Atom createAtom() {
+        char letter = (char) (random.nextInt(5) + 'a');
+        int subscript = random.nextInt(5) + 1;
+        int power = random.nextInt(4) + 1;
+
+        return new Atom(letter, subscript, power);
+    }
+
+    /**
+     * A Term with a random numerical coefficient and the given number of random Atoms, not reduced.
+     */
+    public Term createTerm(int numAtoms) {
+        Atom[] atoms = new Atom[numAtoms];
+
+        for (int i = 0; i < numAtoms; i++) {
+            atoms[i] = createAtom();
+        }
+
+        return new Term(createNumber(), atoms);
+    }
+
+    /**
+     * An array of random Terms with 1-3 Atoms each.
+     */
+    public Term[] createTerms(int numTerms) {
+        Term[] terms = new Term[numTerms];
+
+        for (int i = 0; i < numTerms; i++) {
+            terms[i] = createTerm(random.nextInt(3) + 1);
+        }
+
+        return terms;
+    }
+
+    /**
+     * A Polynomial whose coefficients are all numbers.
+     *
+     * @param degree  The degree of the polynomial.
+     * @param density The fraction of coefficients that are not zero.
+     */
+    public Polynomial createNumericPolynomial(int degree, double density) {
+        double[] coefficients = new double[degree + 1];
+
+        for (int i = 0; i <= degree; i++) {
+            if (i == degree || random.nextDouble() < density) coefficients[i] = createNumber();
+        }
+
+        return new Polynomial(coefficients);
+    }
+
+    /**
+     * A Polynomial whose coefficients are Coefs of random Terms.
+     *
+     * @param degree       The degree of the polynomial.
+     * @param density      The fraction of coefficients that are not zero.
+     * @param termsPerCoef The number of Terms in each non-zero coefficient.
+     */
+    public Polynomial createSymbolicPolynomial(int degree, double density, int termsPerCoef) {
+        Coef[] coefs = new Coef[degree + 1];
+
+        for (int i = 0; i <= degree; i++) {
+            if (i == degree || random.nextDouble() < density) {
+                coefs[i] = new Coef(createTerms(termsPerCoef));
+            } else {
+                coefs[i] = new Coef(0.0);
+            }
+        }
+
+        return new Polynomial(coefs);
+    }
+
+    /**
+     * Either kind of Polynomial, by name, for use with a JMH @Param. Symbolic coefficients have one Term
+     * each.
+     *
+     * @param kind "numeric" or "symbolic"
+     */
+    public Polynomial createPolynomial(String kind, int degree, double density) {
+        if (kind.equals("symbolic")) return createSymbolicPolynomial(degree, density, 1);
+
+        return createNumericPolynomial(degree, density);
+    }
+
+    /**
+     * A random number with two decimal places, like the test factories use.
+     */
+    private double createNumber() {
+        return Math.round((random.nextDouble() * 20 - 10) * 100) / 100.0;
+    }
+}
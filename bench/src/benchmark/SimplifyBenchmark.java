@@ -0,0 +1,47 @@
+package benchmark;
+
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.Term;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Coef.simplify and Term.simplify for large Coefs and Terms, which used to recurse once per Term or Atom.
+ */
+@State(Scope.Benchmark)
+public class SimplifyBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private Term[] terms;
+    private Term term;
+
+    @Setup
+    public void setUp() {
+        PolynomialFactory factory = new PolynomialFactory(1);
+
+        terms = factory.createTerms(size);
+        term = factory.createTerm(size);
+    }
+
+    /**
+     * Includes copying the Terms into a new Coef with setTerms, since simplify() changes the Coef.
+     */
+    @Benchmark
+    public Coef coefSimplify() {
+        Coef copy = new Coef();
+        copy.setTerms(terms);
+        return copy.simplify();
+    }
+
+    /**
+     * Includes copying the Atom array into a new Term, since simplify() changes the Term.
+     */
+    @Benchmark
+    public Term termSimplify() {
+        return new Term(term.getNumericalCoefficient(), term.getAtoms()).simplify();
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.Term;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Term.reduce, Term.times and Term.compareTo for Terms with a given number of Atoms.
+ */
+@State(Scope.Benchmark)
+public class TermBenchmark {
+    @Param({"3", "12", "48"})
+    public int numAtoms;
+
+    private double numericalCoefficient;
+    private Atom[] atoms;
+    private Term term;
+    private Term other;
+
+    @Setup
+    public void setUp() {
+        PolynomialFactory factory = new PolynomialFactory(1);
+
+        Term unreduced = factory.createTerm(numAtoms);
+        numericalCoefficient = unreduced.getNumericalCoefficient();
+        atoms = unreduced.getAtoms();
+
+        term = factory.createTerm(numAtoms);
+        term.reduce();
+        other = factory.createTerm(numAtoms);
+        other.reduce();
+    }
+
+    /**
+     * Includes copying the Atom array into a new Term, since reduce() changes the Term.
+     */
+    @Benchmark
+    public Term reduce() {
+        Term copy = new Term(numericalCoefficient, atoms);
+        copy.reduce();
+        return copy;
+    }
+
+    @Benchmark
+    public Term times() {
+        return term.times(other);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return term.compareTo(other);
+    }
+}
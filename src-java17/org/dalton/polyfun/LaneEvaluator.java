@@ -0,0 +1,73 @@
+package org.dalton.polyfun;
+
+/**
+ * Evaluates one polynomial at many points, several points at a time.
+ * <p>
+ * This is the Java 17 version of the class, packaged under META-INF/versions/17. When the JVM was
+ * started with {@code --add-modules jdk.incubator.vector}, whole vectors of points are evaluated with
+ * {@link VectorLaneEvaluator}. Otherwise, and for the points left over, it does the same as the Java 11
+ * version: the Horner chains for {@link #LANES} points run side by side. Either way each point gets
+ * exactly the same operations as {@link Horner#eval(double[], double)}, so the results are identical.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class LaneEvaluator {
+    /**
+     * Number of points evaluated together without the Vector API.
+     */
+    static final int LANES = 4;
+
+    /**
+     * Whether the Vector API can be used. VectorLaneEvaluator is not loaded unless it can.
+     */
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private LaneEvaluator() {
+    }
+
+    /**
+     * Evaluate a polynomial at xs[from] to xs[to - 1], writing p(xs[i]) into out[i].
+     *
+     * @param coefficients The numerical coefficients, lowest degree first.
+     * @param xs           The values to plug into the polynomial.
+     * @param out          Where to write the results.
+     * @param from         First index, inclusive.
+     * @param to           Last index, exclusive.
+     * @since 1.3.0
+     */
+    static void evalMany(double[] coefficients, double[] xs, double[] out, int from, int to) {
+        int i = from;
+
+        if (VECTOR_API) i = VectorLaneEvaluator.evalMany(coefficients, xs, out, from, to);
+
+        for (; i + LANES <= to; i += LANES) {
+            double x0 = xs[i];
+            double x1 = xs[i + 1];
+            double x2 = xs[i + 2];
+            double x3 = xs[i + 3];
+            double r0 = 0;
+            double r1 = 0;
+            double r2 = 0;
+            double r3 = 0;
+
+            for (int k = coefficients.length - 1; k >= 0; k--) {
+                double coefficient = coefficients[k];
+                r0 = r0 * x0 + coefficient;
+                r1 = r1 * x1 + coefficient;
+                r2 = r2 * x2 + coefficient;
+                r3 = r3 * x3 + coefficient;
+            }
+
+            out[i] = r0;
+            out[i + 1] = r1;
+            out[i + 2] = r2;
+            out[i + 3] = r3;
+        }
+
+        // Leftover points
+        for (; i < to; i++) {
+            out[i] = Horner.eval(coefficients, xs[i]);
+        }
+    }
+}
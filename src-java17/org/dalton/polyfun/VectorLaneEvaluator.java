@@ -0,0 +1,49 @@
+package org.dalton.polyfun;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Evaluates one polynomial at many points with the Vector API, as many points at a time as fit in one
+ * SIMD register. Only used when the jdk.incubator.vector module is present, see {@link LaneEvaluator}.
+ * <p>
+ * Every lane does a multiply followed by an add, not a fused multiply-add, so the results are identical
+ * to {@link Horner#eval(double[], double)}.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class VectorLaneEvaluator {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorLaneEvaluator() {
+    }
+
+    /**
+     * Evaluate a polynomial at xs[from] to xs[to - 1], writing p(xs[i]) into out[i].
+     *
+     * @param coefficients The numerical coefficients, lowest degree first.
+     * @param xs           The values to plug into the polynomial.
+     * @param out          Where to write the results.
+     * @param from         First index, inclusive.
+     * @param to           Last index, exclusive.
+     * @return The first index that was not evaluated; fewer than one vector of points are left.
+     * @since 1.3.0
+     */
+    static int evalMany(double[] coefficients, double[] xs, double[] out, int from, int to) {
+        int i = from;
+
+        for (; i + SPECIES.length() <= to; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, xs, i);
+            DoubleVector result = DoubleVector.zero(SPECIES);
+
+            for (int k = coefficients.length - 1; k >= 0; k--) {
+                result = result.mul(x).add(coefficients[k]);
+            }
+
+            result.intoArray(out, i);
+        }
+
+        return i;
+    }
+}
@@ -299,6 +299,30 @@ public class Atom implements Comparable<Atom> {
                 && this.getPower() == atom.getPower();
     }
 
+    /**
+     * Checks equality with any object, the same way as {@link #equals(Atom)}, so Atoms can be used as
+     * keys in hash maps. Don't change an Atom while it is a key.
+     *
+     * @param object The object to compare to this one.
+     * @return true if it is an Atom with the same letter, subscript and power
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof Atom && this.equals((Atom) object);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * this.letter + this.subscript) + this.power;
+    }
+
     /**
      * Returns a printable string of the Atom.
      *
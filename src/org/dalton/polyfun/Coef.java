@@ -20,6 +20,12 @@ import java.util.Arrays;
 public class Coef {
     private Term[] terms;
 
+    /**
+     * The Terms reduced and without zeros, made the first time the Coef is compared or hashed, and made
+     * again if the Terms have changed since.
+     */
+    private Canonical canonical;
+
     /**
      * Default constructor.
      * @since 1.0.0
@@ -37,7 +43,7 @@ public class Coef {
         this.terms = new Term[terms.length];
 
         for (int i = 0; i < terms.length; ++i) {
-            Term term = new Term(terms[i].getNumericalCoefficient(), terms[i].getAtoms());
+            Term term = terms[i].withAtoms(terms[i].getAtoms());
             term.reduce();
             this.terms[i] = term;
         }
@@ -45,6 +51,16 @@ public class Coef {
         this.reduce();
     }
 
+    /**
+     * Construct a Coef from the Terms in a table that didn't cancel out.
+     *
+     * @param table The Terms, which are copied.
+     * @since 1.3.0
+     */
+    Coef(TermTable table) {
+        this.terms = table.toNonZeroTerms();
+    }
+
     /**
      * Construct a Coef with just 1 term. The Term is inserted into an array of length 1.
      *
@@ -81,6 +97,18 @@ public class Coef {
         this.setTerms(terms);
     }
 
+    /**
+     * Construct a Coef with just a constant that is kept exactly. See {@link Term#Term(Rational, Atom[])}.
+     *
+     * @param constant The exact constant.
+     * @since 1.3.0
+     */
+    public Coef(Rational constant) {
+        Term term = new Term(constant, new Atom[0]);
+        Term[] terms = new Term[]{term};
+        this.setTerms(terms);
+    }
+
     /**
      * Construct a Coef with just one letter (no numerical coefficient or exponent).
      *
@@ -110,10 +138,11 @@ public class Coef {
      * @since 1.0.0
      */
     public void setTerms(Term[] terms) {
+        this.canonical = null;
         this.terms = new Term[terms.length];
 
         for (int i = 0; i < terms.length; ++i) {
-            this.terms[i] = new Term(terms[i].getNumericalCoefficient(), terms[i].getAtoms());
+            this.terms[i] = terms[i].withAtoms(terms[i].getAtoms());
             this.terms[i].reduce();
         }
 
@@ -208,7 +237,7 @@ public class Coef {
         terms[0] = term;
 
         for (int i = 1; i < this.getTerms().length + 1; ++i) {
-            terms[i] = new Term(this.getTerms()[i - 1].getNumericalCoefficient(), this.getTerms()[i - 1].getAtoms());
+            terms[i] = this.getTerms()[i - 1].withAtoms(this.getTerms()[i - 1].getAtoms());
         }
 
         return new Coef(terms);
@@ -226,7 +255,7 @@ public class Coef {
         terms[0] = term;
 
         for (int i = 1; i < this.getTerms().length + 1; i++) {
-            terms[i] = new Term(this.getTerms()[i - 1].getNumericalCoefficient(), this.getTerms()[i - 1].getAtoms());
+            terms[i] = this.getTerms()[i - 1].withAtoms(this.getTerms()[i - 1].getAtoms());
         }
 
         this.setTerms(terms);
@@ -249,18 +278,20 @@ public class Coef {
                 || term.lessThan(this.getTerms()[0]))) {
             // If the given term is less than the Coef's first term, insert the new term at the front.
             return coef.paste(term);
-        } else if (term.equals(this.getTerms()[0])) {
+        } else if (term.isLikeTerm(this.getTerms()[0])) {
             // If the given term is the same as  the Coef's first term, add the numerical coefficients.
-            coef.getTerms()[0].setNumericalCoefficient(term.getNumericalCoefficient() + coef.getTerms()[0].getNumericalCoefficient());
+            coef.getTerms()[0].addNumericalCoefficient(term);
         } else if (this.getTerms().length == 1) {
             // If the Coef only has one term, append the given term at the end.
             Term[] terms = new Term[]{term};
             Coef coef1 = new Coef(terms);
             coef.setTerms(coef1.paste(this.getTerms()[0]).getTerms());
         } else {
-            // Otherwise, call this again recursively
-            Term term1 = this.getTerms()[0];
-            coef.setTerms(coef.snip().place(term).paste(term1).getTerms());
+            // Otherwise it ends up combined with a like term, or among the rest in order, as in reduce()
+            TermTable table = new TermTable(this.getTerms().length + 1);
+            table.addAll(this.getTerms());
+            table.add(term);
+            coef.setTerms(table.toNonZeroTerms());
         }
 
         return coef;
@@ -284,16 +315,16 @@ public class Coef {
 
             // If the term is the same as an existing term, add the numerical coefficients.
             for (int i = 0; i < this.getTerms().length; i++) {
-                if (term.equals(this.getTerms()[i])) {
-                    double sum = term.getNumericalCoefficient() + this.getTerms()[i].getNumericalCoefficient();
-                    this.getTerms()[i].setNumericalCoefficient(sum);
+                if (term.isLikeTerm(this.getTerms()[i])) {
+                    this.getTerms()[i].addNumericalCoefficient(term);
+                    this.canonical = null;
                     return; // Quit once you've handled it.
                 }
             }
 
-            // For all other cases, push the new term, then sort all terms alphanumerically
+            // For all other cases, push the new term, then sort all terms in the default order
             this.push(term);
-            Arrays.sort(this.getTerms());
+            Arrays.sort(this.getTerms(), MonomialOrder.getDefault());
         }
     }
 
@@ -304,11 +335,16 @@ public class Coef {
      * @since 1.0.0
      */
     public Coef simplify() {
-        Coef coef = new Coef(this.getTerms());
-
         if (this.getTerms().length > 1) {
-            Term term = new Term(this.getTerms()[0].simplify().getNumericalCoefficient(), this.getTerms()[0].simplify().getAtoms());
-            this.setTerms(coef.snip().simplify().place(term).getTerms());
+            // Add copies of the terms from the last one back, so like terms are added up in the same order
+            // as when each term was placed among the simplified terms after it
+            TermTable table = new TermTable(this.getTerms().length);
+
+            for (int i = this.getTerms().length - 1; i >= 0; i--) {
+                table.add(this.getTerms()[i]);
+            }
+
+            this.setTerms(table.toNonZeroTerms());
         } else if (this.getTerms().length == 1) {
             Term[] terms = new Term[]{this.getTerms()[0].simplify()};
             this.setTerms(terms);
@@ -324,44 +360,63 @@ public class Coef {
      * @since 1.1.0
      */
     public void reduce() {
-        // Save a copy of the current terms.
-        Term[] termsUnordered = new Term[this.getTerms().length];
-        System.arraycopy(this.getTerms(), 0, termsUnordered, 0, this.getTerms().length);
-
-        // Wipe out the current terms
-        this.setTerms(new Term[0]);
+        Term[] termsUnordered = this.getTerms();
+        TermTable table = new TermTable(termsUnordered.length);
 
-        // Put them back in smart order
+        // Combine like terms as they're added, then put them in smart order once.
         for (int i = 0; i < termsUnordered.length; i++) {
             termsUnordered[i].reduce();
-            this.insert(termsUnordered[i]);
+            table.add(termsUnordered[i]);
         }
+
+        this.terms = table.toTerms();
+        this.canonical = null;
     }
 
 
     /**
      * Multiply a Coefficient by another Coefficient.
+     * <p>
+     * Each product of a Term by a Term is combined with the like products before it as it is made, so
+     * only one Term is kept for each distinct product rather than all of them.
      *
      * @param coef The Coef object to multiply to this one.
      * @return the product
      * @since 1.0.0
      */
     public Coef times(Coef coef) {
-        Term[] terms = new Term[this.getTerms().length * coef.getTerms().length];
+        TermTable table = new TermTable(Math.max(this.getTerms().length, coef.getTerms().length));
+        this.addProductTo(coef, table);
 
-        // Multiply every term by every term.
-        for (int i = 0; i < this.getTerms().length; i++) {
-            for (int j = 0; j < coef.getTerms().length; j++) {
-                Term product = this.getTerms()[i].times(coef.getTerms()[j]);
+        return new Coef(table);
+    }
 
-                int index = i * coef.getTerms().length + j;
-                terms[index] = product;
-            }
+    /**
+     * Multiply every Term by every Term, in order, and add the products to a table.
+     *
+     * @param coef  The Coef to multiply to this one.
+     * @param table Where to add the products.
+     * @since 1.3.0
+     */
+    void addProductTo(Coef coef, TermTable table) {
+        Term[] those = coef.getTerms();
+        Monomial[] monomials = new Monomial[those.length];
+
+        for (int j = 0; j < those.length; j++) {
+            if (those[j].getAtoms() != null) monomials[j] = those[j].monomial();
         }
 
-        Coef productCoef = new Coef(terms);
-        productCoef.reduce();
-        return productCoef;
+        for (Term term : this.getTerms()) {
+            Monomial monomial = term.getAtoms() == null ? null : term.monomial();
+
+            for (int j = 0; j < those.length; j++) {
+                if (monomial == null || monomials[j] == null || term.isExact() || those[j].isExact()) {
+                    table.add(term.times(those[j]));
+                } else {
+                    table.add(monomial.times(monomials[j]), term.getNumericalCoefficient() * those[j].getNumericalCoefficient());
+                }
+            }
+        }
     }
 
     /**
@@ -382,7 +437,8 @@ public class Coef {
     }
 
     /**
-     * Add Coefs by combining like Terms and adding unlike Terms
+     * Add Coefs by combining like Terms and adding unlike Terms. Both Coefs are reduced first, so this
+     * takes one pass over their Terms.
      *
      * @param coef  Coef to be added to the first Coef
      * @return      The sum of this and that
@@ -394,18 +450,42 @@ public class Coef {
         if (coef.isZero()) return this;
         if (this.isZero()) return coef;
 
-        Term[] terms = new Term[this.getTerms().length + coef.getTerms().length];
-
-        for (int i = 0; i < terms.length; i++) {
-            if (i < this.getTerms().length) {
-                terms[i] = this.getTerms()[i];
+        // isZero() reduced both, so their Terms are in order: merge them like two sorted lists. The order
+        // only puts two Terms level if they are like Terms, so like Terms always meet at the heads.
+        Term[] these = this.getTerms();
+        Term[] those = coef.getTerms();
+        Term[] terms = new Term[these.length + those.length];
+        MonomialOrder order = MonomialOrder.getDefault();
+        int i = 0;
+        int j = 0;
+        int count = 0;
+
+        while (i < these.length || j < those.length) {
+            Term term;
+
+            if (i < these.length && j < those.length && these[i].isLikeTerm(those[j])) {
+                // Like terms: add the numerical coefficients.
+                term = these[i].withAtoms(these[i].getAtoms());
+                term.addNumericalCoefficient(those[j]);
+                i++;
+                j++;
+            } else if (j == those.length || (i < these.length && order.compare(these[i], those[j]) < 0)) {
+                term = these[i].withAtoms(these[i].getAtoms());
+                i++;
             } else {
-                terms[i] = coef.getTerms()[i - this.getTerms().length];
+                term = those[j].withAtoms(those[j].getAtoms());
+                j++;
+            }
+
+            // Drop terms that are zero or cancelled out.
+            if (!term.isZero()) {
+                term.reduce();
+                terms[count++] = term;
             }
         }
 
-        Coef sum = new Coef(terms);
-        sum.reduce();
+        Coef sum = new Coef();
+        sum.terms = Arrays.copyOf(terms, count);
         return sum;
     }
 
@@ -453,6 +533,22 @@ public class Coef {
         return this.terms.length == 1 && this.terms[0].isConstantTerm();
     }
 
+    /**
+     * Checks if any of the Terms keeps its number exactly, so sums and products with this Coef are exact.
+     *
+     * @return true if a Term is exact
+     * @since 1.3.0
+     */
+    public boolean isExact() {
+        if (this.terms == null) return false;
+
+        for (Term term : this.terms) {
+            if (term.isExact()) return true;
+        }
+
+        return false;
+    }
+
     /**
      * @since 1.0.0
      * @deprecated Use {@link #toString()} instead.
@@ -477,6 +573,55 @@ public class Coef {
         }
     }
 
+    /**
+     * Check equality with any object: true if it is a Coef with the same Terms, with the same numerical
+     * coefficients, once like Terms are combined and zeros are dropped. Neither Coef is changed.
+     * <p>
+     * The reduced Terms are kept until the Terms change, including changes made to the Terms returned by
+     * {@link #getTerms()}, so comparing or hashing the same Coef again doesn't reduce it again. Don't
+     * change a Coef while it is a key in a hash map.
+     *
+     * @param object The object to compare to this one.
+     * @return true if they are equal
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Coef)) return false;
+
+        return this.canonical().equals(((Coef) object).canonical());
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}. It is the same as the hash code of the
+     * {@link ImmutableCoef} copy.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return this.canonical().hashCode();
+    }
+
+    /**
+     * Get the reduced Terms, making them if the Coef has changed since they were last made.
+     *
+     * @return the Coef as an ImmutableCoef
+     * @since 1.3.0
+     */
+    ImmutableCoef canonical() {
+        Canonical canonical = this.canonical;
+
+        if (canonical == null || !canonical.isOf(this.terms)) {
+            canonical = new Canonical(this);
+            this.canonical = canonical;
+        }
+
+        return canonical.coef;
+    }
+
     /**
      * Compose a printable string of the Coef.
      *
@@ -504,4 +649,49 @@ public class Coef {
 
         return string;
     }
-}
\ No newline at end of file
+
+    /**
+     * The reduced Terms of a Coef, and the Terms, numbers and Monomials they were made from, so it can be
+     * checked that nothing has changed since, whether through the Coef or through {@link #getTerms()}.
+     */
+    private static final class Canonical {
+        private final Term[] terms;
+        private final Term[] elements;
+        private final double[] numbers;
+        private final Rational[] exactNumbers;
+        private final Monomial[] monomials;
+        private final ImmutableCoef coef;
+
+        private Canonical(Coef coef) {
+            this.terms = coef.terms;
+            this.elements = this.terms == null ? new Term[0] : this.terms.clone();
+            this.numbers = new double[this.elements.length];
+            this.exactNumbers = new Rational[this.elements.length];
+            this.monomials = new Monomial[this.elements.length];
+
+            for (int i = 0; i < this.elements.length; i++) {
+                this.numbers[i] = this.elements[i].getNumericalCoefficient();
+                this.exactNumbers[i] = this.elements[i].getExactCoefficient();
+                this.monomials[i] = this.elements[i].monomial();
+            }
+
+            this.coef = new ImmutableCoef(coef);
+        }
+
+        private boolean isOf(Term[] terms) {
+            if (terms != this.terms) return false;
+
+            for (int i = 0; i < this.elements.length; i++) {
+                Term term = this.elements[i];
+
+                // A Term whose Atoms changed packs them into a new Monomial.
+                if (terms[i] != term
+                        || Double.doubleToLongBits(term.getNumericalCoefficient()) != Double.doubleToLongBits(this.numbers[i])
+                        || term.getExactCoefficient() != this.exactNumbers[i]
+                        || term.monomial() != this.monomials[i]) return false;
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.dalton.polyfun;
+
+/**
+ * Adds up Coefs in place, for long sums where {@code sum = sum.plus(coef)} would make a new Coef, and
+ * copy and reduce all its Terms, for every step.
+ * <p>
+ * Like Terms are combined as they are added, so the builder only holds one Term for each distinct
+ * product of Atoms. The sum is put in order once, when {@link #build()} is called, and the builder can
+ * keep adding after that. The numerical coefficients are added in the same order as the equivalent
+ * chain of {@link Coef#plus(Coef)} and {@link Coef#times(Coef)} calls, so the result is the same.
+ * <p>
+ * Example: the sum of a_i * b_i for i = 1..n
+ * <pre>{@code
+ * CoefBuilder sum = new CoefBuilder();
+ * for (int i = 1; i <= n; i++) {
+ *     sum.addProduct(new Coef(new Atom('a', i, 1)), new Coef(new Atom('b', i, 1)));
+ * }
+ * Coef coef = sum.build();
+ * }</pre>
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public class CoefBuilder {
+    private final TermTable terms = new TermTable(16);
+    private TermTable products;
+
+    /**
+     * Construct a builder for the Coef 0.
+     *
+     * @since 1.3.0
+     */
+    public CoefBuilder() {
+    }
+
+    /**
+     * Add a Coef to the sum.
+     *
+     * @param coef The Coef to add. It is not changed.
+     * @return this builder
+     * @since 1.3.0
+     */
+    public CoefBuilder addInPlace(Coef coef) {
+        if (coef.getTerms() != null) this.terms.addAll(coef.getTerms());
+
+        return this;
+    }
+
+    /**
+     * Add a Term to the sum.
+     *
+     * @param term The Term to add. It is not changed.
+     * @return this builder
+     * @since 1.3.0
+     */
+    public CoefBuilder addInPlace(Term term) {
+        this.terms.add(term);
+        return this;
+    }
+
+    /**
+     * Add the product of two Coefs to the sum, without making a Coef for the product.
+     *
+     * @param coef1 The first Coef. It is not changed.
+     * @param coef2 The second Coef. It is not changed.
+     * @return this builder
+     * @since 1.3.0
+     */
+    public CoefBuilder addProduct(Coef coef1, Coef coef2) {
+        if (coef1.getTerms() == null || coef2.getTerms() == null) return this;
+
+        // Combine the like Terms of the product first, like Coef.times does, then add them to the sum.
+        if (this.products == null) this.products = new TermTable(16);
+
+        this.products.clear();
+        coef1.addProductTo(coef2, this.products);
+        this.terms.addAll(this.products);
+
+        return this;
+    }
+
+    /**
+     * Multiply the sum so far by a scalar.
+     *
+     * @param scalar The number to multiply by.
+     * @return this builder
+     * @since 1.3.0
+     */
+    public CoefBuilder scaleInPlace(double scalar) {
+        this.terms.scale(scalar);
+        return this;
+    }
+
+    /**
+     * Check if the sum so far is 0.
+     *
+     * @return true if nothing but zeros has been added, or everything cancelled out.
+     * @since 1.3.0
+     */
+    public boolean isZero() {
+        return this.terms.isZero();
+    }
+
+    /**
+     * Make a Coef of the sum so far, with like Terms combined, Terms that cancelled out dropped and the
+     * rest in order. The builder is not changed and can keep adding.
+     *
+     * @return a new Coef, which has no Terms if the sum is 0.
+     * @since 1.3.0
+     */
+    public Coef build() {
+        return new Coef(this.terms);
+    }
+
+    /**
+     * Start again from 0, keeping the space already used.
+     *
+     * @return this builder
+     * @since 1.3.0
+     */
+    public CoefBuilder clear() {
+        this.terms.clear();
+        return this;
+    }
+}
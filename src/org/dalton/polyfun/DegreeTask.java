@@ -0,0 +1,65 @@
+package org.dalton.polyfun;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * Works out a range of the Coefs of a Polynomial in a ForkJoinPool, for Polynomials where each degree
+ * can be worked out on its own, such as products and compositions.
+ * <p>
+ * The work for each degree is given up front, as a running total, so ranges are split where they have
+ * about half the work rather than half the degrees. Ranges with less than
+ * {@link SymbolicMultiplier#PARALLEL_THRESHOLD} work, or only one degree, are worked out on the thread
+ * that reaches them.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class DegreeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final IntFunction<Coef> degree;
+    private final Coef[] coefs;
+    private final long[] work;
+    private final int from;
+    private final int to;
+
+    /**
+     * Make the task for degrees from to to - 1.
+     *
+     * @param degree Works out the Coef of one degree.
+     * @param coefs  Where to put the Coefs, by degree.
+     * @param work   work[k] is the total work for the degrees below k, so it is one longer than coefs.
+     * @param from   First degree, inclusive.
+     * @param to     Last degree, exclusive.
+     * @since 1.3.0
+     */
+    DegreeTask(IntFunction<Coef> degree, Coef[] coefs, long[] work, int from, int to) {
+        this.degree = degree;
+        this.coefs = coefs;
+        this.work = work;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (this.to - this.from < 2 || this.work[this.to] - this.work[this.from] < SymbolicMultiplier.PARALLEL_THRESHOLD) {
+            for (int k = this.from; k < this.to; k++) {
+                this.coefs[k] = this.degree.apply(k);
+            }
+            return;
+        }
+
+        // Find the degree that splits the work in half, keeping at least one degree on each side.
+        long half = (this.work[this.from] + this.work[this.to]) / 2;
+        int middle = this.from + 1;
+
+        while (middle < this.to - 1 && this.work[middle] < half) {
+            middle++;
+        }
+
+        invokeAll(new DegreeTask(this.degree, this.coefs, this.work, this.from, middle),
+                new DegreeTask(this.degree, this.coefs, this.work, middle, this.to));
+    }
+}
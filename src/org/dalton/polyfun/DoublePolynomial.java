@@ -0,0 +1,263 @@
+package org.dalton.polyfun;
+
+/**
+ * A polynomial in X whose coefficients are all numbers, stored in one array of doubles. The index of the
+ * array corresponds to the degree of the term for which that coefficient belongs.
+ * <p>
+ * Example: p(x) = 2x^3 - 3x + 1 is stored as {1.0, -3.0, 0.0, 2.0}
+ * <p>
+ * A Polynomial stores every number as a Coef with an array of Terms, each with an array of Atoms. When
+ * no coefficient has a variable in it, a DoublePolynomial does the same arithmetic on one array instead.
+ * Convert back and forth with {@link #DoublePolynomial(Polynomial)} and {@link #toPolynomial()}.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public class DoublePolynomial {
+    private double[] coefficients;
+
+    /**
+     * Construct a DoublePolynomial from its numerical coefficients, lowest degree first.
+     * The array is copied.
+     *
+     * @param coefficients array of numerical coefficients
+     * @since 1.3.0
+     */
+    public DoublePolynomial(double[] coefficients) {
+        this.setCoefficients(coefficients);
+    }
+
+    /**
+     * Constructs a zeroth degree or constant polynomial.
+     *
+     * @param constant The constant term of the zeroth degree polynomial.
+     * @since 1.3.0
+     */
+    public DoublePolynomial(double constant) {
+        this.coefficients = new double[]{constant};
+    }
+
+    /**
+     * Constructs a polynomial with one term and a specific degree.
+     * Example: coefficient = 2.0 deg = 3 creates p(x) = 2.0x^3.
+     *
+     * @param numericalCoefficient The coefficient
+     * @param degree               The degree of the term and the polynomial
+     * @since 1.3.0
+     */
+    public DoublePolynomial(double numericalCoefficient, int degree) {
+        this.coefficients = new double[degree + 1];
+        this.coefficients[degree] = numericalCoefficient;
+    }
+
+    /**
+     * Construct a DoublePolynomial with the same coefficients and degree as a Polynomial.
+     *
+     * @param polynomial A Polynomial whose coefficients are all numbers.
+     * @throws AssertionError If any coefficient is not a number.
+     * @since 1.3.0
+     */
+    public DoublePolynomial(Polynomial polynomial) throws AssertionError {
+        if (!Horner.isNumeric(polynomial.getCoefs())) {
+            String msg = String.format("The polynomial %s has coefficients that are not numbers.", polynomial);
+            throw (new AssertionError(msg));
+        }
+
+        this.coefficients = Horner.valuesOf(polynomial.getCoefs());
+    }
+
+    /**
+     * Gets the degree of the polynomial.
+     *
+     * @return degree The degree of the polynomial
+     * @since 1.3.0
+     */
+    public int getDegree() {
+        return this.coefficients.length - 1;
+    }
+
+    /**
+     * Get the numerical coefficient of the x term at the given degree.
+     *
+     * @param degree The degree of the term.
+     * @return The coefficient, or 0 if the degree is higher than the polynomial's.
+     * @since 1.3.0
+     */
+    public double getCoefficientAt(int degree) {
+        if (degree > this.getDegree()) return 0;
+
+        return this.coefficients[degree];
+    }
+
+    /**
+     * Get a copy of the numerical coefficients, lowest degree first.
+     *
+     * @return The numerical coefficients of the polynomial.
+     * @since 1.3.0
+     */
+    public double[] getCoefficientArray() {
+        return this.coefficients.clone();
+    }
+
+    /**
+     * Set the numerical coefficients, lowest degree first. Also changes the degree. The array is copied.
+     *
+     * @param coefficients array of numerical coefficients
+     * @since 1.3.0
+     */
+    public void setCoefficients(double[] coefficients) {
+        this.coefficients = coefficients.clone();
+    }
+
+    /**
+     * Add two polynomials by adding the coefficients of the corresponding terms.
+     *
+     * @param polynomial DoublePolynomial to add
+     * @return the sum
+     * @since 1.3.0
+     */
+    public DoublePolynomial plus(DoublePolynomial polynomial) {
+        double[] sum = new double[Math.max(this.coefficients.length, polynomial.coefficients.length)];
+
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = this.getCoefficientAt(i) + polynomial.getCoefficientAt(i);
+        }
+
+        return new DoublePolynomial(sum);
+    }
+
+    /**
+     * Subtract a polynomial from this one.
+     *
+     * @param polynomial DoublePolynomial to subtract
+     * @return The difference
+     * @since 1.3.0
+     */
+    public DoublePolynomial minus(DoublePolynomial polynomial) {
+        double[] difference = new double[Math.max(this.coefficients.length, polynomial.coefficients.length)];
+
+        for (int i = 0; i < difference.length; i++) {
+            difference[i] = this.getCoefficientAt(i) - polynomial.getCoefficientAt(i);
+        }
+
+        return new DoublePolynomial(difference);
+    }
+
+    /**
+     * Multiply a polynomial by a scalar.
+     *
+     * @param scalar to multiply
+     * @return the product
+     * @since 1.3.0
+     */
+    public DoublePolynomial times(double scalar) {
+        double[] product = new double[this.coefficients.length];
+
+        for (int i = 0; i < product.length; i++) {
+            product[i] = this.coefficients[i] * scalar;
+        }
+
+        return new DoublePolynomial(product);
+    }
+
+    /**
+     * Multiply a polynomial by a polynomial, using {@link PolynomialMultiplier#getDefault()}.
+     *
+     * @param polynomial to multiply
+     * @return the product
+     * @since 1.3.0
+     */
+    public DoublePolynomial times(DoublePolynomial polynomial) {
+        return new DoublePolynomial(PolynomialMultiplier.getDefault().multiply(this.coefficients, polynomial.coefficients));
+    }
+
+    /**
+     * Raise to a power by repeated squaring.
+     *
+     * @param power to raise by. Powers of 0 or less give the polynomial 1.
+     * @return the result
+     * @since 1.3.0
+     */
+    public DoublePolynomial to(int power) {
+        DoublePolynomial result = new DoublePolynomial(1.0);
+        DoublePolynomial square = this;
+
+        while (power > 0) {
+            if (power % 2 == 1) result = result.times(square);
+
+            power /= 2;
+            if (power > 0) square = square.times(square);
+        }
+
+        return result;
+    }
+
+    /**
+     * Composes two polynomials with Horner's rule.
+     * Example: if this = p(x) and polynomial = q(x), this.of(polynomial) returns p[q(x)]
+     *
+     * @param polynomial The inner polynomial
+     * @return The new polynomial which is the composition
+     * @since 1.3.0
+     */
+    public DoublePolynomial of(DoublePolynomial polynomial) {
+        DoublePolynomial result = new DoublePolynomial(this.coefficients[this.getDegree()]);
+
+        for (int i = this.getDegree() - 1; i >= 0; i--) {
+            result = result.times(polynomial).plus(new DoublePolynomial(this.coefficients[i]));
+        }
+
+        return result;
+    }
+
+    /**
+     * Plug a value into the polynomial, using Horner's rule.
+     *
+     * @param x The value to plug into the polynomial
+     * @return double the result
+     * @since 1.3.0
+     */
+    public double eval(double x) {
+        return Horner.eval(this.coefficients, x);
+    }
+
+    /**
+     * Take the derivative with respect to X.
+     * Example: the derivative of 2x^3 - 3x + 1 is 6x^2 - 3
+     *
+     * @return the derivative, one degree lower (a constant polynomial stays degree 0).
+     * @since 1.3.0
+     */
+    public DoublePolynomial derivative() {
+        if (this.getDegree() < 1) return new DoublePolynomial(0.0);
+
+        double[] derivative = new double[this.getDegree()];
+
+        for (int i = 1; i < this.coefficients.length; i++) {
+            derivative[i - 1] = i * this.coefficients[i];
+        }
+
+        return new DoublePolynomial(derivative);
+    }
+
+    /**
+     * Convert to a Polynomial with the same coefficients and degree.
+     *
+     * @return a new Polynomial.
+     * @since 1.3.0
+     */
+    public Polynomial toPolynomial() {
+        return new Polynomial(this.coefficients);
+    }
+
+    /**
+     * Returns a printable string, in the same format as {@link Polynomial#toString()}.
+     *
+     * @return String representing the polynomial.
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        return this.toPolynomial().toString();
+    }
+}
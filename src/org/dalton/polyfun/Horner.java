@@ -0,0 +1,216 @@
+package org.dalton.polyfun;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Numeric evaluation of polynomials using Horner's rule.
+ * <p>
+ * p(x) = c_0 + c_1x + c_2x^2 + c_3x^3 is evaluated as c_0 + x(c_1 + x(c_2 + x(c_3))), which takes one
+ * multiplication and one addition per coefficient and does not allocate any objects.
+ * <p>
+ * These helpers only apply to Polynomials whose Coefs are all constants. Polynomials with abstract
+ * coefficients still go through the Coef arithmetic in {@link Polynomial}.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class Horner {
+    /**
+     * Batches of at least this many points are split across a ForkJoinPool by default.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private Horner() {
+    }
+
+    /**
+     * Checks if every Coef in the array is a number, i.e. every non-zero Term has no Atoms
+     * (or only Atoms raised to the power 0). Unlike {@link Coef#isConstantCoef()} this does not
+     * reduce the Coefs, and a Coef that is zero counts as a number.
+     *
+     * @param coefs The Coef array of a Polynomial.
+     * @return true if the Coefs can be evaluated as doubles.
+     * @since 1.3.0
+     */
+    static boolean isNumeric(Coef[] coefs) {
+        for (Coef coef : coefs) {
+            if (!isNumeric(coef)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a Coef is a number. See {@link #isNumeric(Coef[])}.
+     *
+     * @param coef The Coef to check.
+     * @return true if the Coef can be evaluated as a double.
+     * @since 1.3.0
+     */
+    static boolean isNumeric(Coef coef) {
+        Term[] terms = coef.getTerms();
+        if (terms == null) return true;
+
+        for (Term term : terms) {
+            if (term.isZero() || term.getAtoms() == null) continue;
+
+            for (Atom atom : term.getAtoms()) {
+                if (atom.getPower() != 0) return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the value of a numeric Coef, i.e. the sum of its Terms. Only meaningful if
+     * {@link #isNumeric(Coef)} is true.
+     *
+     * @param coef A numeric Coef.
+     * @return The value of the Coef.
+     * @since 1.3.0
+     */
+    static double valueOf(Coef coef) {
+        Term[] terms = coef.getTerms();
+        if (terms == null) return 0;
+
+        double value = 0;
+        for (Term term : terms) {
+            value += term.getNumericalCoefficient();
+        }
+
+        return value;
+    }
+
+    /**
+     * Copy the values of numeric Coefs into a double array, lowest degree first.
+     *
+     * @param coefs The Coef array of a numeric Polynomial.
+     * @return The numerical coefficients.
+     * @since 1.3.0
+     */
+    static double[] valuesOf(Coef[] coefs) {
+        double[] values = new double[coefs.length];
+
+        for (int i = 0; i < coefs.length; i++) {
+            values[i] = valueOf(coefs[i]);
+        }
+
+        return values;
+    }
+
+    /**
+     * Make a Coef for each numerical coefficient, lowest degree first.
+     *
+     * @param values The numerical coefficients.
+     * @return The Coef array.
+     * @since 1.3.0
+     */
+    static Coef[] coefsOf(double[] values) {
+        Coef[] coefs = new Coef[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            coefs[i] = new Coef(values[i]);
+        }
+
+        return coefs;
+    }
+
+    /**
+     * Evaluate a numeric Polynomial directly from its Coefs, without copying them.
+     *
+     * @param coefs The Coef array of a numeric Polynomial, lowest degree first.
+     * @param x     The value to plug into the polynomial.
+     * @return p(x)
+     * @since 1.3.0
+     */
+    static double eval(Coef[] coefs, double x) {
+        double result = 0;
+
+        for (int i = coefs.length - 1; i >= 0; i--) {
+            result = result * x + valueOf(coefs[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Evaluate a polynomial given its numerical coefficients.
+     *
+     * @param coefficients The numerical coefficients, lowest degree first.
+     * @param x            The value to plug into the polynomial.
+     * @return p(x)
+     * @since 1.3.0
+     */
+    static double eval(double[] coefficients, double x) {
+        double result = 0;
+
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            result = result * x + coefficients[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Evaluate a polynomial at xs[from] to xs[to - 1], writing p(xs[i]) into out[i]. Several points are
+     * evaluated side by side, see {@link LaneEvaluator}.
+     *
+     * @param coefficients The numerical coefficients, lowest degree first.
+     * @param xs           The values to plug into the polynomial.
+     * @param out          Where to write the results.
+     * @param from         First index, inclusive.
+     * @param to           Last index, exclusive.
+     * @since 1.3.0
+     */
+    static void evalMany(double[] coefficients, double[] xs, double[] out, int from, int to) {
+        LaneEvaluator.evalMany(coefficients, xs, out, from, to);
+    }
+
+    /**
+     * Evaluate a polynomial at xs[from] to xs[to - 1] in a ForkJoinPool. Ranges are split in half until
+     * they are shorter than {@link #PARALLEL_THRESHOLD}.
+     *
+     * @param coefficients The numerical coefficients, lowest degree first.
+     * @param xs           The values to plug into the polynomial.
+     * @param out          Where to write the results.
+     * @param pool         The pool to run in.
+     * @since 1.3.0
+     */
+    static void evalMany(double[] coefficients, double[] xs, double[] out, ForkJoinPool pool) {
+        pool.invoke(new EvalTask(coefficients, xs, out, 0, xs.length));
+    }
+
+    /**
+     * One range of a parallel batch evaluation.
+     */
+    private static class EvalTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] coefficients;
+        private final double[] xs;
+        private final double[] out;
+        private final int from;
+        private final int to;
+
+        EvalTask(double[] coefficients, double[] xs, double[] out, int from, int to) {
+            this.coefficients = coefficients;
+            this.xs = xs;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from < PARALLEL_THRESHOLD) {
+                evalMany(this.coefficients, this.xs, this.out, this.from, this.to);
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new EvalTask(this.coefficients, this.xs, this.out, this.from, middle),
+                        new EvalTask(this.coefficients, this.xs, this.out, middle, this.to));
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.dalton.polyfun;
+
+/**
+ * An Atom that cannot be changed: a letter, a subscript and a power, all fixed when it is constructed.
+ * <p>
+ * Instances can be shared between threads and used as keys in hash maps. Convert to and from a mutable
+ * Atom with {@link #ImmutableAtom(Atom)} and {@link #toAtom()}.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public final class ImmutableAtom implements Comparable<ImmutableAtom> {
+    private final char letter;
+    private final int subscript;
+    private final int power;
+
+    /**
+     * Construct a letter, subscript, power. E.g. 'a', 1, 2 will make the atom a_1^2.
+     *
+     * @param letter    The letter.
+     * @param subscript The subscript, or -1 for none.
+     * @param power     The power.
+     * @since 1.3.0
+     */
+    public ImmutableAtom(char letter, int subscript, int power) {
+        this.letter = letter;
+        this.subscript = subscript;
+        this.power = power;
+    }
+
+    /**
+     * Create an atom with just a letter, i.e. no subscript and a power of 1.
+     *
+     * @param letter The letter.
+     * @since 1.3.0
+     */
+    public ImmutableAtom(char letter) {
+        this(letter, -1, 1);
+    }
+
+    /**
+     * Copy the letter, subscript and power of an Atom.
+     *
+     * @param atom The Atom to copy.
+     * @since 1.3.0
+     */
+    public ImmutableAtom(Atom atom) {
+        this(atom.getLetter(), atom.getSubscript(), atom.getPower());
+    }
+
+    /**
+     * Get letter
+     *
+     * @return This atom's letter
+     * @since 1.3.0
+     */
+    public char getLetter() {
+        return this.letter;
+    }
+
+    /**
+     * Get subscript
+     *
+     * @return This atom's subscript, or -1 if it has none
+     * @since 1.3.0
+     */
+    public int getSubscript() {
+        return this.subscript;
+    }
+
+    /**
+     * Get power
+     *
+     * @return This atom's power
+     * @since 1.3.0
+     */
+    public int getPower() {
+        return this.power;
+    }
+
+    /**
+     * Multiply two like Atoms by adding their powers.
+     *
+     * @param atom the like atom to multiply by
+     * @return the product
+     * @since 1.3.0
+     */
+    public ImmutableAtom timesLikeAtom(ImmutableAtom atom) {
+        return new ImmutableAtom(this.letter, this.subscript, this.power + atom.power);
+    }
+
+    /**
+     * Test to see if Atoms are "like" (same letter, subscript)
+     *
+     * @param atom Atom to compare this to.
+     * @return true if the two Atoms have same letter and subscript.
+     * @since 1.3.0
+     */
+    public boolean isLike(ImmutableAtom atom) {
+        return this.letter == atom.letter && this.subscript == atom.subscript;
+    }
+
+    /**
+     * Compares two atoms by letter and subscript only, like {@link Atom#isLessThan(Atom)}.
+     *
+     * @param atom Atom to compare this to.
+     * @return true if this is less than the atom passed in
+     * @since 1.3.0
+     */
+    public boolean isLessThan(ImmutableAtom atom) {
+        if (this.letter < atom.letter) return true;
+
+        return this.letter == atom.letter && this.subscript < atom.subscript;
+    }
+
+    /**
+     * Make a mutable copy.
+     *
+     * @return a new Atom with the same letter, subscript and power.
+     * @since 1.3.0
+     */
+    public Atom toAtom() {
+        return new Atom(this.letter, this.subscript, this.power);
+    }
+
+    /**
+     * Orders atoms by letter, then subscript, then power.
+     *
+     * @param atom Atom to compare to
+     * @return -1 for less than, 0 for equal, 1 for greater than
+     * @since 1.3.0
+     */
+    @Override
+    public int compareTo(ImmutableAtom atom) {
+        if (this.letter != atom.letter) return this.letter < atom.letter ? -1 : 1;
+        if (this.subscript != atom.subscript) return this.subscript < atom.subscript ? -1 : 1;
+
+        return Integer.compare(this.power, atom.power);
+    }
+
+    /**
+     * Checks equality between Atoms: same letter, subscript and power.
+     *
+     * @param object The object to compare to this one.
+     * @return true if equal
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof ImmutableAtom)) return false;
+
+        ImmutableAtom atom = (ImmutableAtom) object;
+        return this.letter == atom.letter && this.subscript == atom.subscript && this.power == atom.power;
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return (31 * this.letter + this.subscript) * 31 + this.power;
+    }
+
+    /**
+     * Returns a printable string of the Atom, in the same format as {@link Atom#toString()}.
+     *
+     * @return A string.
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        return this.toAtom().toString();
+    }
+}
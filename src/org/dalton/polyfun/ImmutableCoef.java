@@ -0,0 +1,248 @@
+package org.dalton.polyfun;
+
+import java.util.Arrays;
+
+/**
+ * A Coef that cannot be changed: an array of ImmutableTerms, understood to be added.
+ * <p>
+ * The Terms are put in the same order as {@link Coef#reduce()} puts them when the ImmutableCoef is
+ * constructed, like Terms are combined and Terms that are zero are dropped, so the Coef 0 has no Terms.
+ * Nothing changes after that: unlike {@link Coef#isZero()} and {@link Coef#isConstantCoef()}, checking
+ * an ImmutableCoef does not reduce it. Instances can be shared between threads and used as keys in
+ * hash maps.
+ * <p>
+ * The arithmetic is done on mutable copies, so it gives the same results as Coef.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public final class ImmutableCoef {
+    /**
+     * The Coef 0, which has no Terms.
+     */
+    static final ImmutableCoef ZERO = new ImmutableCoef(new Coef(new Term[0]));
+
+    private final ImmutableTerm[] terms;
+    private final int hashCode;
+
+    /**
+     * Construct a Coef with just a constant.
+     *
+     * @param constant The constant.
+     * @since 1.3.0
+     */
+    public ImmutableCoef(double constant) {
+        this(new Coef(constant));
+    }
+
+    /**
+     * Construct a Coef from an array of Terms, which are reduced.
+     *
+     * @param terms The Terms, in any order.
+     * @since 1.3.0
+     */
+    public ImmutableCoef(ImmutableTerm[] terms) {
+        this(mutableCoef(terms));
+    }
+
+    /**
+     * Copy a Coef and reduce the copy. The Coef passed in is not changed.
+     *
+     * @param coef The Coef to copy.
+     * @since 1.3.0
+     */
+    public ImmutableCoef(Coef coef) {
+        ImmutableTerm[] terms = new ImmutableTerm[0];
+
+        if (coef.getTerms() != null) {
+            Coef reduced = new Coef(coef.getTerms());
+            terms = new ImmutableTerm[reduced.getTerms().length];
+            int count = 0;
+
+            for (Term term : reduced.getTerms()) {
+                if (!term.isZero()) terms[count++] = new ImmutableTerm(term);
+            }
+
+            terms = Arrays.copyOf(terms, count);
+        }
+
+        this.terms = terms;
+        this.hashCode = Arrays.hashCode(terms);
+    }
+
+    /**
+     * Get a copy of the Terms, in reduced order.
+     *
+     * @return the terms, or an empty array if the Coef is zero.
+     * @since 1.3.0
+     */
+    public ImmutableTerm[] getTerms() {
+        return this.terms.clone();
+    }
+
+    /**
+     * Return the constant of a constant Coef.
+     *
+     * @return The constant of the Coef.
+     * @throws AssertionError If the Coef is not a constant
+     * @since 1.3.0
+     */
+    public double getConstant() throws AssertionError {
+        if (this.isZero()) return 0;
+
+        if (!this.isConstantCoef()) {
+            String msg = String.format("The coef %s cannot be returned as a number", this.toString());
+            throw (new AssertionError(msg));
+        }
+
+        return this.terms[0].getNumericalCoefficient();
+    }
+
+    /**
+     * Add Coefs by combining like Terms and adding unlike Terms
+     *
+     * @param coef Coef to be added to this one
+     * @return The sum of this and that
+     * @since 1.3.0
+     */
+    public ImmutableCoef plus(ImmutableCoef coef) {
+        if (coef.isZero()) return this;
+        if (this.isZero()) return coef;
+
+        return new ImmutableCoef(this.toCoef().plus(coef.toCoef()));
+    }
+
+    /**
+     * Multiply a Coefficient by another Coefficient.
+     *
+     * @param coef The Coef to multiply to this one.
+     * @return the product
+     * @since 1.3.0
+     */
+    public ImmutableCoef times(ImmutableCoef coef) {
+        if (this.isZero()) return this;
+        if (coef.isZero()) return coef;
+
+        return new ImmutableCoef(this.toCoef().times(coef.toCoef()));
+    }
+
+    /**
+     * Multiplies each Term in the Coef by a scalar.
+     *
+     * @param scalar The number to multiply it by
+     * @return the product
+     * @since 1.3.0
+     */
+    public ImmutableCoef times(double scalar) {
+        ImmutableTerm[] terms = new ImmutableTerm[this.terms.length];
+
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = this.terms[i].times(scalar);
+        }
+
+        return new ImmutableCoef(terms);
+    }
+
+    /**
+     * If the Coef is zero, it returns true.
+     *
+     * @return true if the Coef is 0
+     * @since 1.3.0
+     */
+    public boolean isZero() {
+        return this.terms.length == 0;
+    }
+
+    /**
+     * True if the Coef is a number, i.e. it has no variables. Unlike {@link Coef#isConstantCoef()}, the
+     * Coef 0 counts as a number.
+     *
+     * @return True if the Coef is a number
+     * @since 1.3.0
+     */
+    public boolean isConstantCoef() {
+        return this.terms.length == 0 || (this.terms.length == 1 && this.terms[0].isConstantTerm());
+    }
+
+    /**
+     * Checks if any of the Terms keeps its number exactly.
+     *
+     * @return true if a Term is exact
+     * @since 1.3.0
+     */
+    public boolean isExact() {
+        for (ImmutableTerm term : this.terms) {
+            if (term.isExact()) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Make a mutable copy.
+     *
+     * @return a new Coef, with new Terms and Atoms.
+     * @since 1.3.0
+     */
+    public Coef toCoef() {
+        if (this.isZero()) return new Coef(0.0D);
+
+        Term[] terms = new Term[this.terms.length];
+
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = this.terms[i].toTerm();
+        }
+
+        Coef coef = new Coef();
+        coef.setTerms(terms);
+        return coef;
+    }
+
+    /**
+     * Check equality between two Coefs: the same Terms with the same numbers.
+     *
+     * @param object The object to compare to this one.
+     * @return true if they are equal
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof ImmutableCoef)) return false;
+
+        ImmutableCoef coef = (ImmutableCoef) object;
+        return this.hashCode == coef.hashCode && Arrays.equals(this.terms, coef.terms);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}, computed once.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * Compose a printable string, in the same format as {@link Coef#toString()}.
+     *
+     * @return a printable string
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        return this.toCoef().toString();
+    }
+
+    private static Coef mutableCoef(ImmutableTerm[] terms) {
+        Term[] mutableTerms = new Term[terms.length];
+
+        for (int i = 0; i < terms.length; i++) {
+            mutableTerms[i] = terms[i].toTerm();
+        }
+
+        return new Coef(mutableTerms);
+    }
+}
@@ -0,0 +1,336 @@
+package org.dalton.polyfun;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A Polynomial that cannot be changed: an array of ImmutableCoefs, where the index of the array
+ * corresponds to the degree of the term for which that coefficient belongs.
+ * <p>
+ * The Coefs are reduced once, when the ImmutablePolynomial is constructed. Nothing changes after that,
+ * so checking, printing or evaluating an ImmutablePolynomial never changes it, and instances can be
+ * shared between threads and used as keys in hash maps without copying them first. The degree is kept
+ * as given, like Polynomial does, so X and 0X^2+X are not equal.
+ * <p>
+ * If all the coefficients are numbers, they are also kept as doubles, so evaluating and multiplying
+ * work directly on them. Other arithmetic is done on mutable copies, so it gives the same results as
+ * Polynomial.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public final class ImmutablePolynomial {
+    private final ImmutableCoef[] coefs;
+    private final double[] numericalCoefficients;
+    private final int hashCode;
+
+    /**
+     * Construct a Polynomial from an array of Coefs, lowest degree first.
+     *
+     * @param coefs The array of Coefs.
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial(ImmutableCoef[] coefs) {
+        this.coefs = coefs.clone();
+        this.numericalCoefficients = valuesOf(this.coefs);
+        this.hashCode = Arrays.hashCode(this.coefs);
+    }
+
+    /**
+     * Construct a Polynomial from its numerical coefficients, lowest degree first.
+     *
+     * @param numericalCoefficients array of numerical coefficients
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial(double[] numericalCoefficients) {
+        this(new Polynomial(numericalCoefficients));
+    }
+
+    /**
+     * Constructs a zeroth degree or constant polynomial.
+     *
+     * @param constant The constant term of the zeroth degree polynomial.
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial(double constant) {
+        this(new double[]{constant});
+    }
+
+    /**
+     * Copy a Polynomial, reducing the copies of its Coefs. The Polynomial passed in is not changed.
+     *
+     * @param polynomial The Polynomial to copy.
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial(Polynomial polynomial) {
+        this(immutableCoefs(polynomial.getCoefs()));
+    }
+
+    /**
+     * Gets the degree of the polynomial.
+     *
+     * @return degree The degree of the polynomial
+     * @since 1.3.0
+     */
+    public int getDegree() {
+        return this.coefs.length - 1;
+    }
+
+    /**
+     * Get the Coef of the x term at the given degree.
+     *
+     * @param degree The degree of the term.
+     * @return The Coef, which is zero if the degree is higher than the polynomial's.
+     * @since 1.3.0
+     */
+    public ImmutableCoef getCoefAt(int degree) {
+        if (degree > this.getDegree()) return new ImmutableCoef(0.0D);
+
+        return this.coefs[degree];
+    }
+
+    /**
+     * Get a copy of the Coefs, lowest degree first.
+     *
+     * @return The Coefs of the polynomial.
+     * @since 1.3.0
+     */
+    public ImmutableCoef[] getCoefs() {
+        return this.coefs.clone();
+    }
+
+    /**
+     * Add two polynomials by adding the coefficients of the corresponding terms.
+     *
+     * @param polynomial Polynomial to add
+     * @return the sum
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial plus(ImmutablePolynomial polynomial) {
+        ImmutableCoef[] sum = new ImmutableCoef[Math.max(this.coefs.length, polynomial.coefs.length)];
+
+        for (int i = 0; i < sum.length; i++) {
+            if (i > this.getDegree()) sum[i] = polynomial.coefs[i];
+            else if (i > polynomial.getDegree()) sum[i] = this.coefs[i];
+            else sum[i] = this.coefs[i].plus(polynomial.coefs[i]);
+        }
+
+        return new ImmutablePolynomial(sum);
+    }
+
+    /**
+     * Subtract a polynomial from this one.
+     *
+     * @param polynomial Polynomial to subtract
+     * @return The difference
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial minus(ImmutablePolynomial polynomial) {
+        return this.plus(polynomial.times(-1.0D));
+    }
+
+    /**
+     * Multiply a polynomial by a scalar by multiplying all the Coefs by the scalar.
+     *
+     * @param scalar to multiply
+     * @return the product
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial times(double scalar) {
+        ImmutableCoef[] product = new ImmutableCoef[this.coefs.length];
+
+        for (int i = 0; i < product.length; i++) {
+            product[i] = this.coefs[i].times(scalar);
+        }
+
+        return new ImmutablePolynomial(product);
+    }
+
+    /**
+     * Multiply a polynomial by a Coef by multiplying all the Coefs by the Coef.
+     *
+     * @param coef to multiply
+     * @return the product
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial times(ImmutableCoef coef) {
+        ImmutableCoef[] product = new ImmutableCoef[this.coefs.length];
+
+        for (int i = 0; i < product.length; i++) {
+            product[i] = this.coefs[i].times(coef);
+        }
+
+        return new ImmutablePolynomial(product);
+    }
+
+    /**
+     * Multiply a polynomial by a polynomial, the same way as {@link Polynomial#times(Polynomial)}.
+     *
+     * @param polynomial to multiply
+     * @return the product
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial times(ImmutablePolynomial polynomial) {
+        if (this.numericalCoefficients != null && polynomial.numericalCoefficients != null) {
+            return new ImmutablePolynomial(PolynomialMultiplier.getDefault().multiply(
+                    this.numericalCoefficients, polynomial.numericalCoefficients));
+        }
+
+        return new ImmutablePolynomial(this.toPolynomial().times(polynomial.toPolynomial()));
+    }
+
+    /**
+     * Raise to a power, the same way as {@link Polynomial#raiseTo(int)}.
+     *
+     * @param power to raise by
+     * @return the result.
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial raiseTo(int power) {
+        return new ImmutablePolynomial(this.toPolynomial().raiseTo(power));
+    }
+
+    /**
+     * Composes two polynomials, the same way as {@link Polynomial#of(Polynomial)}.
+     * Example: if this = p(x) and polynomial = q(x), this.of(polynomial) returns p[q(x)]
+     *
+     * @param polynomial The inner polynomial
+     * @return The new polynomial which is the composition
+     * @since 1.3.0
+     */
+    public ImmutablePolynomial of(ImmutablePolynomial polynomial) {
+        return new ImmutablePolynomial(this.toPolynomial().of(polynomial.toPolynomial()));
+    }
+
+    /**
+     * Plug a value into the polynomial. If all the coefficients are numbers this uses Horner's rule on
+     * the stored numbers and does not create any objects.
+     *
+     * @param x The value to plug into the polynomial
+     * @return double the result
+     * @throws AssertionError If the result is not a number.
+     * @since 1.3.0
+     */
+    public double eval(double x) throws AssertionError {
+        if (this.numericalCoefficients != null) return Horner.eval(this.numericalCoefficients, x);
+
+        return this.toPolynomial().eval(x);
+    }
+
+    /**
+     * Plug many values into the polynomial at once, writing p(xs[i]) into out[i]. See
+     * {@link Polynomial#evalMany(double[], double[])}.
+     *
+     * @param xs  The values to plug into the polynomial
+     * @param out Where to write the results. Must be at least as long as xs.
+     * @throws AssertionError If out is shorter than xs, or a result is not a number.
+     * @since 1.3.0
+     */
+    public void evalMany(double[] xs, double[] out) throws AssertionError {
+        if (this.numericalCoefficients == null) {
+            this.toPolynomial().evalMany(xs, out);
+            return;
+        }
+
+        if (out.length < xs.length) {
+            String msg = String.format("Cannot write %d results into an array of length %d.", xs.length, out.length);
+            throw (new AssertionError(msg));
+        }
+
+        if (xs.length >= Horner.PARALLEL_THRESHOLD) {
+            Horner.evalMany(this.numericalCoefficients, xs, out, ForkJoinPool.commonPool());
+        } else {
+            Horner.evalMany(this.numericalCoefficients, xs, out, 0, xs.length);
+        }
+    }
+
+    /**
+     * Determines if all the coefficients are numbers, meaning the polynomial can be represented in a graph.
+     *
+     * @return true if plottable
+     * @since 1.3.0
+     */
+    public boolean isPlottable() {
+        return this.numericalCoefficients != null;
+    }
+
+    /**
+     * Make a mutable copy.
+     *
+     * @return a new Polynomial, with new Coefs, Terms and Atoms.
+     * @since 1.3.0
+     */
+    public Polynomial toPolynomial() {
+        Coef[] coefs = new Coef[this.coefs.length];
+
+        for (int i = 0; i < coefs.length; i++) {
+            coefs[i] = this.coefs[i].toCoef();
+        }
+
+        return new Polynomial(coefs);
+    }
+
+    /**
+     * Check equality between two polynomials: the same degree and the same Coefs.
+     *
+     * @param object The object to compare to this one.
+     * @return true if they are equal
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof ImmutablePolynomial)) return false;
+
+        ImmutablePolynomial polynomial = (ImmutablePolynomial) object;
+        return this.hashCode == polynomial.hashCode && Arrays.equals(this.coefs, polynomial.coefs);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}, computed once.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * Returns a printable string, in the same format as {@link Polynomial#toString()}.
+     *
+     * @return String representing the polynomial.
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        return this.toPolynomial().toString();
+    }
+
+    private static ImmutableCoef[] immutableCoefs(Coef[] coefs) {
+        ImmutableCoef[] immutableCoefs = new ImmutableCoef[coefs.length];
+
+        // Reuses the Coef's reduced form, which is made again if any of its Terms changed since.
+        for (int i = 0; i < coefs.length; i++) {
+            immutableCoefs[i] = coefs[i].canonical();
+        }
+
+        return immutableCoefs;
+    }
+
+    /**
+     * The numerical coefficients, or null if any Coef is not a number or is exact.
+     */
+    private static double[] valuesOf(ImmutableCoef[] coefs) {
+        double[] values = new double[coefs.length];
+
+        for (int i = 0; i < coefs.length; i++) {
+            if (!coefs[i].isConstantCoef() || coefs[i].isExact()) return null;
+
+            values[i] = coefs[i].getConstant();
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,243 @@
+package org.dalton.polyfun;
+
+import java.util.Arrays;
+
+/**
+ * A Term that cannot be changed: a number and an array of Atoms, understood to be multiplied.
+ * <p>
+ * The Atoms are put in the same order as {@link Term#reduce()} puts them when the ImmutableTerm is
+ * constructed: like Atoms are combined, Atoms with a power of 0 are dropped, and a Term whose number
+ * is 0 has no Atoms. Nothing changes after that, so checking or printing an ImmutableTerm never changes
+ * it, and instances can be shared between threads and used as keys in hash maps.
+ * <p>
+ * An exact number, see {@link Term#Term(Rational, Atom[])}, is kept exactly.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public final class ImmutableTerm {
+    private static final ImmutableAtom[] NO_ATOMS = new ImmutableAtom[0];
+
+    private final double numericalCoefficient;
+    private final Rational exactCoefficient; // null unless exact, otherwise numericalCoefficient is its double value
+    private final ImmutableAtom[] atoms;
+
+    /**
+     * Construct a constant term.
+     *
+     * @param constant The constant that will be the entire term.
+     * @since 1.3.0
+     */
+    public ImmutableTerm(double constant) {
+        this.numericalCoefficient = constant == 0 ? 0.0D : constant;
+        this.exactCoefficient = null;
+        this.atoms = NO_ATOMS;
+    }
+
+    /**
+     * Construct a Term with a number and an array of Atoms, which are reduced.
+     *
+     * @param numericalCoefficient The number
+     * @param atoms                The Atoms, in any order.
+     * @since 1.3.0
+     */
+    public ImmutableTerm(double numericalCoefficient, ImmutableAtom[] atoms) {
+        this(mutableTerm(numericalCoefficient, atoms));
+    }
+
+    /**
+     * Copy a Term and reduce the copy. The Term passed in is not changed.
+     *
+     * @param term The Term to copy.
+     * @since 1.3.0
+     */
+    public ImmutableTerm(Term term) {
+        Term reduced = term.withAtoms(term.getAtoms());
+        reduced.reduce();
+
+        if (reduced.isZero()) {
+            // 0.0 rather than -0.0 or an exact 0, so all zero Terms are equal
+            this.numericalCoefficient = 0.0D;
+            this.exactCoefficient = null;
+            this.atoms = NO_ATOMS;
+        } else if (reduced.getAtoms() == null) {
+            this.numericalCoefficient = reduced.getNumericalCoefficient();
+            this.exactCoefficient = reduced.getExactCoefficient();
+            this.atoms = NO_ATOMS;
+        } else {
+            this.numericalCoefficient = reduced.getNumericalCoefficient();
+            this.exactCoefficient = reduced.getExactCoefficient();
+            this.atoms = new ImmutableAtom[reduced.getAtoms().length];
+
+            for (int i = 0; i < this.atoms.length; i++) {
+                this.atoms[i] = new ImmutableAtom(reduced.getAtoms()[i]);
+            }
+        }
+    }
+
+    /**
+     * Get the number the Atoms are multiplied by.
+     *
+     * @return the numerical coefficient
+     * @since 1.3.0
+     */
+    public double getNumericalCoefficient() {
+        return this.numericalCoefficient;
+    }
+
+    /**
+     * Get the exact number, if the Term keeps one.
+     *
+     * @return the number as a Rational, or null if the Term is not exact.
+     * @since 1.3.0
+     */
+    public Rational getExactCoefficient() {
+        return this.exactCoefficient;
+    }
+
+    /**
+     * Checks if the number is kept exactly.
+     *
+     * @return true if there is an exact number
+     * @since 1.3.0
+     */
+    public boolean isExact() {
+        return this.exactCoefficient != null;
+    }
+
+    /**
+     * Get a copy of the Atoms, in reduced order.
+     *
+     * @return the atoms
+     * @since 1.3.0
+     */
+    public ImmutableAtom[] getAtoms() {
+        return this.atoms.clone();
+    }
+
+    /**
+     * Multiply Term by another Term.
+     *
+     * @param term The Term to multiply to this one
+     * @return the product
+     * @since 1.3.0
+     */
+    public ImmutableTerm times(ImmutableTerm term) {
+        return new ImmutableTerm(this.toTerm().times(term.toTerm()));
+    }
+
+    /**
+     * Multiply Term by a scalar value.
+     *
+     * @param scalar Value to multiply this Term by
+     * @return the product
+     * @since 1.3.0
+     */
+    public ImmutableTerm times(double scalar) {
+        if (this.isExact()) return new ImmutableTerm(this.toTerm().times(scalar));
+
+        return new ImmutableTerm(scalar * this.numericalCoefficient, this.atoms);
+    }
+
+    /**
+     * Tests to see if two terms have "like" (same letter & subscript) Atoms. Unlike
+     * {@link Term#isLike(Term)}, neither Term is changed.
+     *
+     * @param term Term to compare this to
+     * @return true if they are "like"
+     * @since 1.3.0
+     */
+    public boolean isLike(ImmutableTerm term) {
+        if (this.atoms.length != term.atoms.length) return false;
+
+        for (int i = 0; i < this.atoms.length; i++) {
+            if (!this.atoms[i].isLike(term.atoms[i])) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks to see of the number (and hence the Term) is zero.
+     *
+     * @return true if numericalCoefficient is zero.
+     * @since 1.3.0
+     */
+    public boolean isZero() {
+        return this.numericalCoefficient == 0.0D;
+    }
+
+    /**
+     * Checks if this is a constant term, i.e. no variables.
+     *
+     * @return true if a constant term
+     * @since 1.3.0
+     */
+    public boolean isConstantTerm() {
+        return this.atoms.length == 0;
+    }
+
+    /**
+     * Make a mutable copy.
+     *
+     * @return a new Term, with new Atoms.
+     * @since 1.3.0
+     */
+    public Term toTerm() {
+        Term term = mutableTerm(this.numericalCoefficient, this.atoms);
+        if (this.isExact()) term.setExactCoefficient(this.exactCoefficient);
+
+        return term;
+    }
+
+    /**
+     * Check equality between two Terms: the same number and the same Atoms. The numbers are compared
+     * the same way as by {@link Term#equals(Object)}, so an exact 1/3 doesn't equal the double 1.0 / 3.
+     *
+     * @param object The object to compare to this one.
+     * @return true if they are equal
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof ImmutableTerm)) return false;
+
+        ImmutableTerm term = (ImmutableTerm) object;
+        return Term.hasSameNumber(this.numericalCoefficient, this.exactCoefficient,
+                term.numericalCoefficient, term.exactCoefficient)
+                && Arrays.equals(this.atoms, term.atoms);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(this.numericalCoefficient) + Arrays.hashCode(this.atoms);
+    }
+
+    /**
+     * Composes a printable string, in the same format as {@link Term#toString()}.
+     *
+     * @return a printable string
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        return this.toTerm().toString();
+    }
+
+    private static Term mutableTerm(double numericalCoefficient, ImmutableAtom[] atoms) {
+        Atom[] mutableAtoms = new Atom[atoms.length];
+
+        for (int i = 0; i < atoms.length; i++) {
+            mutableAtoms[i] = atoms[i].toAtom();
+        }
+
+        return new Term(numericalCoefficient, mutableAtoms);
+    }
+}
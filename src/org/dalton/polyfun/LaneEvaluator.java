@@ -0,0 +1,66 @@
+package org.dalton.polyfun;
+
+/**
+ * Evaluates one polynomial at many points, several points at a time.
+ * <p>
+ * Horner's rule is a chain: each step needs the result of the step before, so evaluating one point at a
+ * time leaves most of the CPU waiting. Running the chains for {@link #LANES} points side by side lets
+ * those steps overlap, and gives the JIT compiler independent operations it can pack into SIMD
+ * instructions. Each point still gets exactly the same operations as {@link Horner#eval(double[], double)},
+ * so the results are identical.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class LaneEvaluator {
+    /**
+     * Number of points evaluated together.
+     */
+    static final int LANES = 4;
+
+    private LaneEvaluator() {
+    }
+
+    /**
+     * Evaluate a polynomial at xs[from] to xs[to - 1], writing p(xs[i]) into out[i].
+     *
+     * @param coefficients The numerical coefficients, lowest degree first.
+     * @param xs           The values to plug into the polynomial.
+     * @param out          Where to write the results.
+     * @param from         First index, inclusive.
+     * @param to           Last index, exclusive.
+     * @since 1.3.0
+     */
+    static void evalMany(double[] coefficients, double[] xs, double[] out, int from, int to) {
+        int i = from;
+
+        for (; i + LANES <= to; i += LANES) {
+            double x0 = xs[i];
+            double x1 = xs[i + 1];
+            double x2 = xs[i + 2];
+            double x3 = xs[i + 3];
+            double r0 = 0;
+            double r1 = 0;
+            double r2 = 0;
+            double r3 = 0;
+
+            for (int k = coefficients.length - 1; k >= 0; k--) {
+                double coefficient = coefficients[k];
+                r0 = r0 * x0 + coefficient;
+                r1 = r1 * x1 + coefficient;
+                r2 = r2 * x2 + coefficient;
+                r3 = r3 * x3 + coefficient;
+            }
+
+            out[i] = r0;
+            out[i + 1] = r1;
+            out[i + 2] = r2;
+            out[i + 3] = r3;
+        }
+
+        // Leftover points
+        for (; i < to; i++) {
+            out[i] = Horner.eval(coefficients, xs[i]);
+        }
+    }
+}
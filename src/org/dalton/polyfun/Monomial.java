@@ -0,0 +1,197 @@
+package org.dalton.polyfun;
+
+import java.util.Arrays;
+
+/**
+ * The Atoms of a Term packed into one int array: for each variable, its id from {@link VariableRegistry}
+ * followed by its power. Variables are in order of id, each appears once, and none has a power of 0.
+ * <p>
+ * Example: if a has id 0 and b_2 has id 1, the Atoms b_2 a^2 a^3 are packed as {0, 5, 1, 1}.
+ * <p>
+ * Because the order doesn't depend on the order of the Atoms, two Monomials are equal if and only if
+ * their Terms are equal after {@link Term#reduce()}, and multiplying two Monomials is one pass adding
+ * the powers of matching ids, like adding two exponent vectors.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class Monomial {
+    private static final int[] NO_VARIABLES = new int[0];
+    private static final Monomial ONE = new Monomial(NO_VARIABLES);
+
+    /**
+     * Ids at even indexes, each followed by its power.
+     */
+    private final int[] exponents;
+    private final int hashCode;
+
+    private Monomial(int[] exponents) {
+        this.exponents = exponents;
+        this.hashCode = Arrays.hashCode(exponents);
+    }
+
+    /**
+     * Pack an array of Atoms, in any order. Like Atoms are combined and powers of 0 are dropped.
+     *
+     * @param atoms The Atoms of a Term, or null for none.
+     * @return The Monomial.
+     * @since 1.3.0
+     */
+    static Monomial of(Atom[] atoms) {
+        if (atoms == null || atoms.length == 0) return ONE;
+
+        // Id in the high half, power in the low half, so sorting the longs sorts by id.
+        long[] packed = new long[atoms.length];
+        int count = 0;
+
+        for (Atom atom : atoms) {
+            if (atom.getPower() == 0) continue;
+
+            int id = VariableRegistry.idOf(atom);
+            packed[count++] = ((long) id << 32) | (atom.getPower() & 0xFFFFFFFFL);
+        }
+
+        Arrays.sort(packed, 0, count);
+
+        int[] exponents = new int[2 * count];
+        int length = 0;
+
+        for (int i = 0; i < count; i++) {
+            int id = (int) (packed[i] >>> 32);
+            int power = (int) packed[i];
+
+            if (length > 0 && exponents[length - 2] == id) {
+                exponents[length - 1] += power;
+                if (exponents[length - 1] == 0) length -= 2;
+            } else {
+                exponents[length++] = id;
+                exponents[length++] = power;
+            }
+        }
+
+        return new Monomial(length == exponents.length ? exponents : Arrays.copyOf(exponents, length));
+    }
+
+    /**
+     * Multiply two Monomials by adding the powers of like variables.
+     *
+     * @param monomial The Monomial to multiply by.
+     * @return the product
+     * @since 1.3.0
+     */
+    Monomial times(Monomial monomial) {
+        int[] a = this.exponents;
+        int[] b = monomial.exponents;
+
+        if (a.length == 0) return monomial;
+        if (b.length == 0) return this;
+
+        int[] product = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int length = 0;
+
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                product[length++] = a[i++];
+                product[length++] = a[i++];
+            } else if (a[i] > b[j]) {
+                product[length++] = b[j++];
+                product[length++] = b[j++];
+            } else {
+                int power = a[i + 1] + b[j + 1];
+
+                if (power != 0) {
+                    product[length++] = a[i];
+                    product[length++] = power;
+                }
+
+                i += 2;
+                j += 2;
+            }
+        }
+
+        while (i < a.length) product[length++] = a[i++];
+        while (j < b.length) product[length++] = b[j++];
+
+        return new Monomial(length == product.length ? product : Arrays.copyOf(product, length));
+    }
+
+    /**
+     * Checks if two Monomials have the same variables, whatever their powers.
+     *
+     * @param monomial The Monomial to compare to.
+     * @return true if the variables are the same.
+     * @since 1.3.0
+     */
+    boolean isLike(Monomial monomial) {
+        if (this.exponents.length != monomial.exponents.length) return false;
+
+        for (int i = 0; i < this.exponents.length; i += 2) {
+            if (this.exponents[i] != monomial.exponents[i]) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Unpack into new Atoms, in the order {@link Term#reduce()} puts them: by letter, then by subscript.
+     *
+     * @return the Atoms.
+     * @since 1.3.0
+     */
+    Atom[] toAtoms() {
+        int count = this.exponents.length / 2;
+        int[] order = new int[count];
+
+        // Ids are in the order the variables were first seen, which needn't be alphabetical, so insertion
+        // sort the positions by the registry's order. Terms only have a few variables.
+        for (int i = 0; i < count; i++) {
+            int position = 2 * i;
+            int j = i;
+
+            while (j > 0 && VariableRegistry.compare(this.exponents[order[j - 1]], this.exponents[position]) > 0) {
+                order[j] = order[j - 1];
+                j--;
+            }
+
+            order[j] = position;
+        }
+
+        Atom[] atoms = new Atom[count];
+
+        for (int i = 0; i < count; i++) {
+            int id = this.exponents[order[i]];
+            atoms[i] = new Atom(VariableRegistry.letterOf(id), VariableRegistry.subscriptOf(id), this.exponents[order[i] + 1]);
+        }
+
+        return atoms;
+    }
+
+    /**
+     * Checks if two Monomials have the same variables with the same powers.
+     *
+     * @param object The object to compare to.
+     * @return true if equal
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Monomial)) return false;
+
+        Monomial monomial = (Monomial) object;
+        return this.hashCode == monomial.hashCode && Arrays.equals(this.exponents, monomial.exponents);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+}
@@ -0,0 +1,230 @@
+package org.dalton.polyfun;
+
+import java.util.Comparator;
+
+/**
+ * The order the Terms of a Coef are kept in, e.g. by {@link Coef#reduce()}, {@link Coef#insert(Term)}
+ * and so by {@link Coef#toString()}.
+ * <p>
+ * {@link #ALPHABETICAL} is the order of {@link Term#compareTo(Term)}, which the library has always used,
+ * with like Terms ordered by their numbers.
+ * The others are the usual monomial orders, with a before b before c and so on, and no subscript before
+ * subscripts 0, 1, 2. Bigger monomials come first and numbers come last. Example: for a^2 + ab + a + b^2 + 1,
+ * <ul>
+ * <li>ALPHABETICAL gives a+a^2+ab+b^2+1</li>
+ * <li>LEX gives a^2+ab+a+b^2+1: compare the powers of a, then of b, and so on.</li>
+ * <li>GRLEX gives a^2+ab+b^2+a+1: compare the degrees first, then as LEX.</li>
+ * <li>GREVLEX gives a^2+ab+b^2+a+1: compare the degrees first, then the smaller power of the last
+ * variable where they differ comes first.</li>
+ * </ul>
+ * The structural orders compare the letters, subscripts and powers of the Atoms directly, without
+ * making any objects, as long as the Atoms of each Term are in order, as {@link Term#reduce()} leaves
+ * them. Terms with the same variables and powers are ordered by their numbers.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public enum MonomialOrder implements Comparator<Term> {
+    /**
+     * The Atoms as text, ignoring case and then with A before a, with numbers last. See
+     * {@link Term#compareTo(Term)}.
+     */
+    ALPHABETICAL {
+        @Override
+        int compareMonomials(Atom[] atoms1, Atom[] atoms2) {
+            boolean number1 = isNumber(atoms1);
+            boolean number2 = isNumber(atoms2);
+
+            // Numbers come last, so they are the smallest.
+            if (number1 || number2) return Boolean.compare(number2, number1);
+
+            // The Term whose text comes first is bigger.
+            return -Integer.signum(Term.compareAtoms(atoms1, atoms2));
+        }
+    },
+
+    /**
+     * Lexicographic: the Term with the higher power of a comes first, then of b, and so on.
+     */
+    LEX {
+        @Override
+        int compareMonomials(Atom[] atoms1, Atom[] atoms2) {
+            return compareLex(atoms1, atoms2);
+        }
+    },
+
+    /**
+     * Graded lexicographic: the Term with the higher degree comes first, then as {@link #LEX}.
+     */
+    GRLEX {
+        @Override
+        int compareMonomials(Atom[] atoms1, Atom[] atoms2) {
+            int byDegree = Long.compare(degree(atoms1), degree(atoms2));
+
+            return byDegree != 0 ? byDegree : compareLex(atoms1, atoms2);
+        }
+    },
+
+    /**
+     * Graded reverse lexicographic: the Term with the higher degree comes first, then the Term with the
+     * lower power of the last variable where the powers differ.
+     */
+    GREVLEX {
+        @Override
+        int compareMonomials(Atom[] atoms1, Atom[] atoms2) {
+            int byDegree = Long.compare(degree(atoms1), degree(atoms2));
+
+            return byDegree != 0 ? byDegree : compareReverseLex(atoms1, atoms2);
+        }
+    };
+
+    private static final Atom[] NO_ATOMS = new Atom[0];
+
+    private static volatile MonomialOrder defaultOrder = ALPHABETICAL;
+
+    /**
+     * Get the order Coefs keep their Terms in.
+     *
+     * @return the default order, which is {@link #ALPHABETICAL} unless it was changed.
+     * @since 1.3.0
+     */
+    public static MonomialOrder getDefault() {
+        return defaultOrder;
+    }
+
+    /**
+     * Set the order Coefs keep their Terms in. Coefs are put in the new order the next time they are
+     * reduced, so set it before making any Coefs, or equal Coefs made before and after may not be equal.
+     *
+     * @param order the new default order
+     * @since 1.3.0
+     */
+    public static void setDefault(MonomialOrder order) {
+        defaultOrder = order;
+    }
+
+    /**
+     * Compare two Terms.
+     *
+     * @param term1 The first Term.
+     * @param term2 The second Term.
+     * @return negative if term1 comes first, 0 if they are the same, positive if term2 comes first.
+     * @since 1.3.0
+     */
+    @Override
+    public int compare(Term term1, Term term2) {
+        Atom[] atoms1 = inOrder(term1);
+        Atom[] atoms2 = inOrder(term2);
+
+        // Bigger monomials come first.
+        int byMonomial = this.compareMonomials(atoms2, atoms1);
+
+        return byMonomial != 0 ? byMonomial
+                : Double.compare(term1.getNumericalCoefficient(), term2.getNumericalCoefficient());
+    }
+
+    /**
+     * Compare two monomials, given as Atoms in order of letter then subscript.
+     *
+     * @return positive if the first is bigger, 0 if they are the same, negative if the second is bigger.
+     */
+    abstract int compareMonomials(Atom[] atoms1, Atom[] atoms2);
+
+    /**
+     * The Atoms of a Term if they are in order of letter then subscript with no two alike, or else the
+     * Atoms of a reduced copy.
+     */
+    private static Atom[] inOrder(Term term) {
+        Atom[] atoms = term.getAtoms();
+        if (atoms == null) return NO_ATOMS;
+
+        for (int i = 1; i < atoms.length; i++) {
+            if (!atoms[i - 1].isLessThan(atoms[i])) {
+                Term copy = new Term(term.getNumericalCoefficient(), atoms);
+                copy.reduce();
+                return copy.getAtoms();
+            }
+        }
+
+        return atoms;
+    }
+
+    /**
+     * True if every Atom has a power of 0, so the Term is just a number.
+     */
+    private static boolean isNumber(Atom[] atoms) {
+        for (Atom atom : atoms) {
+            if (atom.getPower() != 0) return false;
+        }
+
+        return true;
+    }
+
+    private static long degree(Atom[] atoms) {
+        long degree = 0;
+
+        for (Atom atom : atoms) {
+            degree += atom.getPower();
+        }
+
+        return degree;
+    }
+
+    /**
+     * Compare the powers of each variable, first variable first. A variable missing from a Term, or
+     * with a power of 0, counts as a power of 0.
+     */
+    private static int compareLex(Atom[] atoms1, Atom[] atoms2) {
+        int i = 0;
+        int j = 0;
+
+        while (true) {
+            while (i < atoms1.length && atoms1[i].getPower() == 0) i++;
+            while (j < atoms2.length && atoms2[j].getPower() == 0) j++;
+
+            if (i == atoms1.length && j == atoms2.length) return 0;
+
+            if (j == atoms2.length || (i < atoms1.length && atoms1[i].isLessThan(atoms2[j]))) {
+                // Only the first has this variable.
+                return Integer.signum(atoms1[i].getPower());
+            } else if (i == atoms1.length || atoms2[j].isLessThan(atoms1[i])) {
+                // Only the second has this variable.
+                return -Integer.signum(atoms2[j].getPower());
+            } else if (atoms1[i].getPower() != atoms2[j].getPower()) {
+                return Integer.compare(atoms1[i].getPower(), atoms2[j].getPower());
+            }
+
+            i++;
+            j++;
+        }
+    }
+
+    /**
+     * Compare the powers of each variable, last variable first. The monomial with the lower power is
+     * bigger.
+     */
+    private static int compareReverseLex(Atom[] atoms1, Atom[] atoms2) {
+        int i = atoms1.length - 1;
+        int j = atoms2.length - 1;
+
+        while (true) {
+            while (i >= 0 && atoms1[i].getPower() == 0) i--;
+            while (j >= 0 && atoms2[j].getPower() == 0) j--;
+
+            if (i < 0 && j < 0) return 0;
+
+            if (j < 0 || (i >= 0 && atoms2[j].isLessThan(atoms1[i]))) {
+                // Only the first has this variable.
+                return -Integer.signum(atoms1[i].getPower());
+            } else if (i < 0 || atoms1[i].isLessThan(atoms2[j])) {
+                // Only the second has this variable.
+                return Integer.signum(atoms2[j].getPower());
+            } else if (atoms1[i].getPower() != atoms2[j].getPower()) {
+                return Integer.compare(atoms2[j].getPower(), atoms1[i].getPower());
+            }
+
+            i--;
+            j--;
+        }
+    }
+}
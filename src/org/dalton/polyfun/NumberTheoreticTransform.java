@@ -0,0 +1,238 @@
+package org.dalton.polyfun;
+
+import java.math.BigInteger;
+
+/**
+ * Exact multiplication of polynomials with integer coefficients.
+ * <p>
+ * A number-theoretic transform is an FFT done with whole numbers modulo a prime p, so there is no rounding.
+ * It gives the product's coefficients modulo p. Doing it for several primes and combining the remainders
+ * with the Chinese remainder theorem gives the true coefficients, as long as the product of the primes is
+ * more than twice the biggest possible coefficient. Only as many primes as needed are used.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class NumberTheoreticTransform {
+    /**
+     * Primes of the form k*2^m+1 (so there are 2^m-th roots of unity), all below 2^31 so products of two
+     * remainders fit in a long. Biggest first, so fewer are needed.
+     */
+    private static final long[] PRIMES = {
+            2113929217L, 2013265921L, 1811939329L, 998244353L, 754974721L, 469762049L, 167772161L};
+
+    /**
+     * A generator of the multiplicative group for each prime.
+     */
+    private static final long[] GENERATORS = {5, 31, 13, 3, 11, 3, 3};
+
+    /**
+     * Every prime supports transforms of at least this length (998244353 = 119*2^23+1).
+     */
+    static final int MAX_LENGTH = 1 << 23;
+
+    private NumberTheoreticTransform() {
+    }
+
+    /**
+     * Multiply two polynomials with integer coefficients exactly.
+     *
+     * @param a coefficients of the first polynomial, lowest degree first
+     * @param b coefficients of the second polynomial, lowest degree first
+     * @return coefficients of the product, of length a.length + b.length - 1
+     * @throws ArithmeticException If the product needs a transform longer than {@link #MAX_LENGTH}.
+     * @since 1.3.0
+     */
+    static BigInteger[] multiply(long[] a, long[] b) throws ArithmeticException {
+        int length = a.length + b.length - 1;
+        int size = Integer.highestOneBit(length);
+        if (size < length) size *= 2;
+
+        if (size > MAX_LENGTH) {
+            String msg = String.format("A product with %d coefficients is too long for an exact multiplication.", length);
+            throw (new ArithmeticException(msg));
+        }
+
+        // Each coefficient of the product is at most (shorter length) * max|a| * max|b|.
+        BigInteger bound = maxAbs(a).multiply(maxAbs(b)).multiply(BigInteger.valueOf(Math.min(a.length, b.length)));
+        BigInteger limit = bound.shiftLeft(1);
+
+        int primes = 0;
+        BigInteger modulus = BigInteger.ONE;
+        while (primes == 0 || modulus.compareTo(limit) <= 0) {
+            modulus = modulus.multiply(BigInteger.valueOf(PRIMES[primes]));
+            primes++;
+        }
+
+        long[][] remainders = new long[primes][];
+        for (int k = 0; k < primes; k++) {
+            remainders[k] = multiplyModulo(a, b, size, PRIMES[k], GENERATORS[k]);
+        }
+
+        return combine(remainders, length, primes, modulus);
+    }
+
+    /**
+     * Product of a and b with every coefficient reduced modulo p.
+     */
+    private static long[] multiplyModulo(long[] a, long[] b, int size, long p, long g) {
+        long[] x = new long[size];
+        long[] y = new long[size];
+
+        for (int i = 0; i < a.length; i++) x[i] = Math.floorMod(a[i], p);
+        for (int i = 0; i < b.length; i++) y[i] = Math.floorMod(b[i], p);
+
+        transform(x, p, g, false);
+        transform(y, p, g, false);
+
+        for (int i = 0; i < size; i++) {
+            x[i] = x[i] * y[i] % p;
+        }
+
+        transform(x, p, g, true);
+
+        long sizeInverse = power(size, p - 2, p);
+        for (int i = 0; i < size; i++) {
+            x[i] = x[i] * sizeInverse % p;
+        }
+
+        return x;
+    }
+
+    /**
+     * Chinese remainder theorem, using Garner's algorithm: each coefficient is first written in mixed
+     * radix x = d_0 + d_1 p_0 + d_2 p_0 p_1 + ..., with every digit below its prime, so all the modular
+     * arithmetic fits in longs. Values above half the modulus are negative.
+     */
+    private static BigInteger[] combine(long[][] remainders, int length, int primes, BigInteger modulus) {
+        // inverses[i][j] is the inverse of p_i modulo p_j, for i < j
+        long[][] inverses = new long[primes][primes];
+        for (int i = 0; i < primes; i++) {
+            for (int j = i + 1; j < primes; j++) {
+                inverses[i][j] = power(PRIMES[i] % PRIMES[j], PRIMES[j] - 2, PRIMES[j]);
+            }
+        }
+
+        BigInteger[] radix = new BigInteger[primes];
+        radix[0] = BigInteger.ONE;
+        for (int k = 1; k < primes; k++) {
+            radix[k] = radix[k - 1].multiply(BigInteger.valueOf(PRIMES[k - 1]));
+        }
+
+        BigInteger half = modulus.shiftRight(1);
+        boolean fitsInLong = modulus.bitLength() < 63;
+        long longModulus = modulus.longValue();
+
+        BigInteger[] product = new BigInteger[length];
+        long[] digits = new long[primes];
+
+        for (int n = 0; n < length; n++) {
+            for (int j = 0; j < primes; j++) {
+                long digit = remainders[j][n];
+
+                for (int i = 0; i < j; i++) {
+                    digit = Math.floorMod(digit - digits[i], PRIMES[j]) * inverses[i][j] % PRIMES[j];
+                }
+
+                digits[j] = digit;
+            }
+
+            if (fitsInLong) {
+                long value = digits[0];
+                long place = 1;
+                for (int j = 1; j < primes; j++) {
+                    place *= PRIMES[j - 1];
+                    value += digits[j] * place;
+                }
+
+                if (value > longModulus / 2) value -= longModulus;
+                product[n] = BigInteger.valueOf(value);
+            } else {
+                BigInteger value = BigInteger.ZERO;
+                for (int j = 0; j < primes; j++) {
+                    value = value.add(radix[j].multiply(BigInteger.valueOf(digits[j])));
+                }
+
+                if (value.compareTo(half) > 0) value = value.subtract(modulus);
+                product[n] = value;
+            }
+        }
+
+        return product;
+    }
+
+    /**
+     * In-place iterative number-theoretic transform modulo p. The length must be a power of 2. The
+     * inverse transform is not scaled.
+     */
+    private static void transform(long[] values, long p, long g, boolean inverse) {
+        int n = values.length;
+
+        // Bit-reversal permutation
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+
+            if (i < j) {
+                long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+
+        for (int length = 2; length <= n; length *= 2) {
+            long root = power(g, (p - 1) / length, p);
+            if (inverse) root = power(root, p - 2, p);
+
+            int half = length / 2;
+
+            for (int start = 0; start < n; start += length) {
+                long w = 1;
+
+                for (int k = 0; k < half; k++) {
+                    int even = start + k;
+                    int odd = even + half;
+
+                    long u = values[even];
+                    long v = values[odd] * w % p;
+
+                    values[even] = u + v < p ? u + v : u + v - p;
+                    values[odd] = u - v >= 0 ? u - v : u - v + p;
+
+                    w = w * root % p;
+                }
+            }
+        }
+    }
+
+    /**
+     * base^exponent modulo p.
+     */
+    private static long power(long base, long exponent, long p) {
+        long result = 1;
+        base %= p;
+
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) result = result * base % p;
+
+            base = base * base % p;
+            exponent >>= 1;
+        }
+
+        return result;
+    }
+
+    private static BigInteger maxAbs(long[] values) {
+        BigInteger max = BigInteger.ZERO;
+
+        for (long value : values) {
+            BigInteger abs = BigInteger.valueOf(value).abs();
+            if (abs.compareTo(max) > 0) max = abs;
+        }
+
+        return max;
+    }
+}
@@ -1,5 +1,8 @@
 package org.dalton.polyfun;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+
 /**
  * A Polynomial is a polynomial in X with a certain degree and a set of coefficients. These coefficients may be
  * specific values (doubles) or abstract variables depending on the situation. In the documentation for this class,
@@ -59,6 +62,23 @@ public class Polynomial {
         }
     }
 
+    /**
+     * Construct a Polynomial from numerical coefficients that are kept exactly, lowest degree first.
+     * Arithmetic on it is then exact, see {@link Term#Term(Rational, Atom[])}.
+     * Example: {1/10, 1/5} and {-3/10} add up to exactly 0 + 1/5x.
+     *
+     * @param exactCoefficients array of exact numerical coefficients
+     * @since 1.3.0
+     */
+    public Polynomial(Rational[] exactCoefficients) {
+        this.degree = exactCoefficients.length - 1;
+        this.coefs = new Coef[exactCoefficients.length];
+
+        for (int i = 0; i < exactCoefficients.length; ++i) {
+            this.coefs[i] = new Coef(exactCoefficients[i]);
+        }
+    }
+
     /**
      * Construct a Polynomial by setting the degree.
      *
@@ -522,28 +542,65 @@ public class Polynomial {
 
     /**
      * Multiply a polynomial by a polynomial.
+     * <p>
+     * If all the coefficients of both polynomials are numbers and neither is {@link #isExact() exact},
+     * they are multiplied as doubles by {@link PolynomialMultiplier#getDefault()}, which switches to
+     * Karatsuba and FFT multiplication for large degrees. See {@link PolynomialMultiplier} for how the
+     * results compare.
+     * <p>
+     * Otherwise, if the product takes 4096 or more products of a Term by a Term, its degrees are split
+     * across the common ForkJoinPool. See {@link #times(Polynomial, ForkJoinPool)}.
+     * <p>
+     * If a {@link PolynomialCache} is set and neither polynomial is exact, a product worked out before
+     * is copied from it.
      *
      * @param polynomial to multiply
      * @return the product
      * @since 1.0.0
      */
     public Polynomial times(Polynomial polynomial) {
-        Coef[] coefs = new Coef[this.getDegree() + polynomial.getDegree() + 1];
+        PolynomialCache cache = PolynomialCache.getDefault();
+        if (this.isExact() || polynomial.isExact()) cache = null; // The cache keeps doubles.
 
-        for (int i = 0; i < coefs.length; i++) {
-            coefs[i] = new Coef(0.0D);
-        }
+        return cache == null ? this.multiply(polynomial) : cache.times(this, polynomial);
+    }
 
-        for (int i = 0; i < coefs.length; i++) {
-            for (int j = 0; j <= i; j++) {
-                if (j <= this.getDegree() && i - j <= polynomial.getDegree()) {
-                    Coef product = this.getCoefAt(j).times(polynomial.getCoefAt(i - j));
-                    coefs[i] = coefs[i].plus(product);
-                }
-            }
+    /**
+     * Multiply without looking in the {@link PolynomialCache}.
+     *
+     * @param polynomial to multiply
+     * @return the product
+     * @since 1.3.0
+     */
+    Polynomial multiply(Polynomial polynomial) {
+        boolean split = SymbolicMultiplier.isWorthSplitting(this, polynomial);
+
+        return this.times(polynomial, split ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Multiply a polynomial by a polynomial, like {@link #times(Polynomial)}, choosing where the work runs.
+     * The {@link PolynomialCache} is not used.
+     * <p>
+     * If the coefficients aren't all numbers, the degrees of the product are split across the pool. Each
+     * degree adds its products in the same order either way, so the result is the same as on one thread.
+     *
+     * @param polynomial to multiply
+     * @param pool       The pool to split the degrees across, or null to multiply on this thread.
+     * @return the product
+     * @since 1.3.0
+     */
+    public Polynomial times(Polynomial polynomial, ForkJoinPool pool) {
+        if (Horner.isNumeric(this.coefs) && Horner.isNumeric(polynomial.getCoefs())
+                && !this.isExact() && !polynomial.isExact()) {
+            double[] product = PolynomialMultiplier.getDefault().multiply(
+                    Horner.valuesOf(this.coefs), Horner.valuesOf(polynomial.getCoefs()));
+            return new Polynomial(Horner.coefsOf(product));
         }
 
-        return new Polynomial(coefs);
+        if (pool != null) return SymbolicMultiplier.multiply(this, polynomial, pool);
+
+        return new PolynomialAccumulator().addProduct(this, polynomial).build();
     }
 
     /**
@@ -554,34 +611,36 @@ public class Polynomial {
      * @since 1.0.0
      */
     public Polynomial to(int power) {
-        Polynomial polynomial = new Polynomial(1.0D);
-
-        if (power >= 1) {
-            polynomial.setCoefs(this.times(this.to(power - 1)).getCoefs());
-        }
-
-        return polynomial;
+        return this.raiseTo(power);
     }
 
-    /* Raise to a power.
+    /**
+     * Raise to a power by repeated squaring, e.g. p^64 takes 7 multiplications instead of 63.
+     * Use {@link PolynomialPowers} to keep the powers and reuse them across calls, or set a
+     * {@link PolynomialCache} to remember the results.
      *
      * @param power to raise by
      * @return Polynomial the result.
      * @since 1.1.0
      */
     public Polynomial raiseTo(int power) {
-        Polynomial polynomial;
+        if (power <= 0) return new Polynomial(1.0);
 
-        if (power <= 0) polynomial = new Polynomial(1.0);
-        else {
-            polynomial = new Polynomial(this.getCoefs());
+        PolynomialCache cache = PolynomialCache.getDefault();
+        if (this.isExact()) cache = null; // The cache keeps doubles.
 
-            for (int i = 1; i < power; i++) {
-                polynomial = this.times(polynomial);
-            }
-        }
+        return cache == null ? this.power(power) : cache.raiseTo(this, power);
+    }
 
-        return polynomial;
+    /**
+     * Raise to a power without looking in the {@link PolynomialCache}.
+     *
+     * @param power to raise by
+     * @return Polynomial the result.
+     * @since 1.3.0
+     */
+    Polynomial power(int power) {
+        return new PolynomialPowers(this).raiseTo(power);
     }
 
     /**
@@ -605,23 +664,80 @@ public class Polynomial {
     /**
      * Composes two GenPolynomials.
      * Example: if this = p(x) and poly = q(x), this.of(poly) returns p[q(x)]
+     * <p>
+     * If the products of the coefficients with the powers of the inner polynomial take 4096 or more
+     * products of a Term by a Term, the degrees of the composition are split across the common
+     * ForkJoinPool. See {@link #of(Polynomial, ForkJoinPool)}.
+     * <p>
+     * If a {@link PolynomialCache} is set, a composition worked out before is copied from it.
      *
      * @param polynomial The inner polynomial
      * @return The new polynomial which is the composition
      * @since 1.0.0
      */
     public Polynomial of(Polynomial polynomial) {
-        Polynomial result = new Polynomial(0.0D);
+        PolynomialCache cache = PolynomialCache.getDefault();
+        if (this.isExact() || polynomial.isExact()) cache = null; // The cache keeps doubles.
+
+        return cache == null ? this.compose(polynomial) : cache.of(this, polynomial);
+    }
+
+    /**
+     * Compose without looking in the {@link PolynomialCache}.
+     *
+     * @param polynomial The inner polynomial
+     * @return The new polynomial which is the composition
+     * @since 1.3.0
+     */
+    Polynomial compose(Polynomial polynomial) {
+        Polynomial[] powers = this.powersOf(polynomial);
+        boolean split = SymbolicComposer.isWorthSplitting(this, powers);
+
+        return this.compose(powers, split ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Compose two polynomials, like {@link #of(Polynomial)}, choosing where the work runs. The
+     * {@link PolynomialCache} is not used.
+     * <p>
+     * The powers of the inner polynomial are worked out first, then the degrees of the composition are
+     * split across the pool. Each degree adds its products in the same order either way, so the result
+     * is the same as on one thread.
+     *
+     * @param polynomial The inner polynomial
+     * @param pool       The pool to split the degrees across, or null to compose on this thread.
+     * @return The new polynomial which is the composition
+     * @since 1.3.0
+     */
+    public Polynomial of(Polynomial polynomial, ForkJoinPool pool) {
+        return this.compose(this.powersOf(polynomial), pool);
+    }
+
+    private Polynomial compose(Polynomial[] powers, ForkJoinPool pool) {
+        if (pool != null) return SymbolicComposer.compose(this, powers, pool);
+
+        PolynomialAccumulator result = new PolynomialAccumulator();
 
         for (int i = 0; i <= this.getDegree(); ++i) {
-            Coef currentCoef = this.getCoefAt(i);
-            Polynomial raised = polynomial.raiseTo(i);
-            Polynomial product = raised.times(currentCoef);
+            result.addProduct(powers[i], this.getCoefAt(i));
+        }
 
-            result.setCoefs(result.plus(product).getCoefs());
+        return result.build();
+    }
+
+    /**
+     * The powers of the inner polynomial of a composition, from 0 to the degree of this one.
+     */
+    private Polynomial[] powersOf(Polynomial polynomial) {
+        // Each power of the inner polynomial is built from the one before it.
+        PolynomialPowers powers = new PolynomialPowers(polynomial);
+        Polynomial[] raised = new Polynomial[this.getDegree() + 1];
+
+        for (int i = 0; i < raised.length; ++i) {
+            raised[i] = powers.raiseTo(i);
         }
 
-        return result;
+        return raised;
     }
 
     /**
@@ -637,14 +753,16 @@ public class Polynomial {
      * @since 1.1.0
      */
     public Coef evaluateToCoef(double value) {
+        if (Horner.isNumeric(this.coefs) && !this.isExact()) return new Coef(Horner.eval(this.coefs, value));
+
         Polynomial polynomial = new Polynomial(value);
-        Coef coef = new Coef(0.0D);
+        CoefBuilder coef = new CoefBuilder();
 
         for (int i = 0; i < this.coefs.length; ++i) {
-            coef.setTerms(coef.plus(polynomial.to(i).times(this.coefs[i]).getCoefAt(0)).getTerms());
+            coef.addProduct(polynomial.to(i).getCoefAt(0), this.coefs[i]);
         }
 
-        return coef;
+        return coef.build();
     }
 
     /**
@@ -652,11 +770,17 @@ public class Polynomial {
      * For example, if p(x) = x2 + 5, and x = 2, then p.evaluate(2) would essentially
      * evaluate p(2) = 22 + 5 = 9.
      *
+     * <p>
+     * If all the coefficients are numbers, the polynomial is evaluated with Horner's rule directly from
+     * the Coefs, without creating any new objects. Otherwise the Coef arithmetic is used.
+     *
      * @param x The value to plug into the polynomial
      * @return double the result
      * @since 1.2.0
      */
     public double eval(double x) {
+        if (Horner.isNumeric(this.coefs)) return Horner.eval(this.coefs, x);
+
         Polynomial polynomial = new Polynomial(x);
         Coef coef = new Coef(0.0D);
 
@@ -667,6 +791,72 @@ public class Polynomial {
         return coef.getConstantAt0Term();
     }
 
+    /**
+     * Plug many values into the polynomial at once, e.g. one for every pixel of a plot. Writes
+     * p(xs[i]) into out[i].
+     * <p>
+     * If all the coefficients are numbers, they are read once and every point is evaluated with
+     * Horner's rule without creating any objects. Batches of 16384 points or more are split across
+     * the common ForkJoinPool. Otherwise each point goes through {@link #eval(double)}.
+     *
+     * @param xs  The values to plug into the polynomial
+     * @param out Where to write the results. Must be at least as long as xs.
+     * @throws AssertionError If out is shorter than xs, or a result is not a number.
+     * @since 1.3.0
+     */
+    public void evalMany(double[] xs, double[] out) throws AssertionError {
+        ForkJoinPool pool = xs.length >= Horner.PARALLEL_THRESHOLD ? ForkJoinPool.commonPool() : null;
+        this.evalMany(xs, out, pool);
+    }
+
+    /**
+     * Plug many values into the polynomial at once, like {@link #evalMany(double[], double[])}, choosing
+     * where the work runs.
+     *
+     * @param xs   The values to plug into the polynomial
+     * @param out  Where to write the results. Must be at least as long as xs.
+     * @param pool The pool to split the points across, or null to evaluate them all on this thread.
+     * @throws AssertionError If out is shorter than xs, or a result is not a number.
+     * @since 1.3.0
+     */
+    public void evalMany(double[] xs, double[] out, ForkJoinPool pool) throws AssertionError {
+        if (out.length < xs.length) {
+            String msg = String.format("Cannot write %d results into an array of length %d.", xs.length, out.length);
+            throw (new AssertionError(msg));
+        }
+
+        if (!Horner.isNumeric(this.coefs)) {
+            for (int i = 0; i < xs.length; i++) {
+                out[i] = this.eval(xs[i]);
+            }
+            return;
+        }
+
+        double[] coefficients = Horner.valuesOf(this.coefs);
+
+        if (pool == null) {
+            Horner.evalMany(coefficients, xs, out, 0, xs.length);
+        } else {
+            Horner.evalMany(coefficients, xs, out, pool);
+        }
+    }
+
+    /**
+     * Plug a stream of values into the polynomial. If all the coefficients are numbers they are read once,
+     * when this is called, and each value is evaluated with Horner's rule. Otherwise each value goes
+     * through {@link #eval(double)}. Parallel streams stay parallel.
+     *
+     * @param xs The values to plug into the polynomial
+     * @return A stream of the results, in the same order.
+     * @since 1.3.0
+     */
+    public DoubleStream evalMany(DoubleStream xs) {
+        if (!Horner.isNumeric(this.coefs)) return xs.map(this::eval);
+
+        double[] coefficients = Horner.valuesOf(this.coefs);
+        return xs.map(x -> Horner.eval(coefficients, x));
+    }
+
     /**
      * Think of this method as plugging in a numeric value into a polynomial function.
      * For example, if p(x) = x2 + 5, and x = 2, then p.evaluate(2) would essentially
@@ -679,14 +869,7 @@ public class Polynomial {
      */
     @Deprecated
     public double evaluateWith(double x) {
-        Polynomial polynomial = new Polynomial(x);
-        Coef coef = new Coef(0.0D);
-
-        for (int i = 0; i < this.coefs.length; ++i) {
-            coef.setTerms(coef.plus(polynomial.to(i).times(this.coefs[i]).getCoefAt(0)).getTerms());
-        }
-
-        return coef.getConstantAt0Term();
+        return this.eval(x);
     }
 
     /**
@@ -702,6 +885,65 @@ public class Polynomial {
         return true;
     }
 
+    /**
+     * Determines if any coefficient keeps its numbers exactly. Then multiplying and composing are done
+     * exactly too, and the {@link PolynomialCache} is not used, since it keeps numbers as doubles.
+     *
+     * @return true if a Coef is exact
+     * @since 1.3.0
+     */
+    public boolean isExact() {
+        for (Coef coef : this.coefs)
+            if (coef != null && coef.isExact()) return true;
+
+        return false;
+    }
+
+    /**
+     * Check equality with any object: true if it is a Polynomial of the same degree with equal Coefs,
+     * as {@link Coef#equals(Object)} compares them. Neither Polynomial is changed.
+     * <p>
+     * Each Coef keeps its reduced Terms until it is changed, so comparing or hashing the same
+     * Polynomial again only looks at one cached value per degree. Don't change a Polynomial while it is
+     * a key in a hash map.
+     *
+     * @param object The object to compare to this one.
+     * @return true if they are equal
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Polynomial)) return false;
+
+        Coef[] those = ((Polynomial) object).coefs;
+        if (this.coefs.length != those.length) return false;
+
+        for (int i = 0; i < this.coefs.length; i++) {
+            if (!canonical(this.coefs[i]).equals(canonical(those[i]))) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}. It is the same as the hash code of the
+     * {@link ImmutablePolynomial} copy.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+
+        for (Coef coef : this.coefs) {
+            hashCode = 31 * hashCode + canonical(coef).hashCode();
+        }
+
+        return hashCode;
+    }
+
     /**
      * Returns a printable string.
      *
@@ -763,4 +1005,11 @@ public class Polynomial {
         // Clean up the last +
         return string.toString().replaceAll("\\+\\Z", ""); // strip last +;
     }
+
+    /**
+     * The reduced Terms of a Coef. Coefs that were never set count as 0.
+     */
+    private static ImmutableCoef canonical(Coef coef) {
+        return coef == null ? ImmutableCoef.ZERO : coef.canonical();
+    }
 }
@@ -0,0 +1,164 @@
+package org.dalton.polyfun;
+
+import java.util.Arrays;
+
+/**
+ * Adds up Polynomials in place, for long sums where {@code sum = sum.plus(polynomial)} would make a
+ * new Polynomial, with new Coefs, for every step. Each degree is a {@link CoefBuilder}.
+ * <p>
+ * Products can be added without making a Polynomial for them. A product of two Polynomials is added
+ * the way {@link Polynomial#times(Polynomial)} multiplies Polynomials that aren't all numbers, so the
+ * result is the same as adding the product, but for Polynomials that are all numbers it doesn't switch
+ * to Karatsuba or FFT multiplication.
+ * <p>
+ * Example: p(q(x)) is the sum of p_i * q(x)^i
+ * <pre>{@code
+ * PolynomialAccumulator sum = new PolynomialAccumulator();
+ * PolynomialPowers powers = new PolynomialPowers(q);
+ * for (int i = 0; i <= p.getDegree(); i++) {
+ *     sum.addProduct(powers.raiseTo(i), p.getCoefAt(i));
+ * }
+ * Polynomial composition = sum.build();
+ * }</pre>
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public class PolynomialAccumulator {
+    private CoefBuilder[] coefs;
+    private int degree;
+
+    /**
+     * Construct an accumulator for the Polynomial 0.
+     *
+     * @since 1.3.0
+     */
+    public PolynomialAccumulator() {
+        this.coefs = new CoefBuilder[]{new CoefBuilder()};
+    }
+
+    /**
+     * Gets the degree of the sum so far: the highest degree added, even if its Coef added up to 0.
+     *
+     * @return degree The degree of the sum
+     * @since 1.3.0
+     */
+    public int getDegree() {
+        return this.degree;
+    }
+
+    /**
+     * Add a Polynomial to the sum.
+     *
+     * @param polynomial The Polynomial to add. It is not changed.
+     * @return this accumulator
+     * @since 1.3.0
+     */
+    public PolynomialAccumulator addInPlace(Polynomial polynomial) {
+        for (int i = 0; i <= polynomial.getDegree(); i++) {
+            this.coefAt(i).addInPlace(polynomial.getCoefAt(i));
+        }
+
+        return this;
+    }
+
+    /**
+     * Add the product of a Polynomial and a Coef to the sum, without making a Polynomial for it.
+     *
+     * @param polynomial The Polynomial. It is not changed.
+     * @param coef       The Coef to multiply it by. It is not changed.
+     * @return this accumulator
+     * @since 1.3.0
+     */
+    public PolynomialAccumulator addProduct(Polynomial polynomial, Coef coef) {
+        for (int i = 0; i <= polynomial.getDegree(); i++) {
+            this.coefAt(i).addProduct(polynomial.getCoefAt(i), coef);
+        }
+
+        return this;
+    }
+
+    /**
+     * Add the product of two Polynomials to the sum, without making a Polynomial for it.
+     *
+     * @param polynomial1 The first Polynomial. It is not changed.
+     * @param polynomial2 The second Polynomial. It is not changed.
+     * @return this accumulator
+     * @since 1.3.0
+     */
+    public PolynomialAccumulator addProduct(Polynomial polynomial1, Polynomial polynomial2) {
+        // Make room for the highest degree first so the builders aren't copied as the product grows.
+        this.coefAt(polynomial1.getDegree() + polynomial2.getDegree());
+
+        for (int i = 0; i <= polynomial1.getDegree(); i++) {
+            for (int j = 0; j <= polynomial2.getDegree(); j++) {
+                this.coefs[i + j].addProduct(polynomial1.getCoefAt(i), polynomial2.getCoefAt(j));
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Multiply the sum so far by a scalar.
+     *
+     * @param scalar The number to multiply by.
+     * @return this accumulator
+     * @since 1.3.0
+     */
+    public PolynomialAccumulator scaleInPlace(double scalar) {
+        for (int i = 0; i <= this.degree; i++) {
+            this.coefs[i].scaleInPlace(scalar);
+        }
+
+        return this;
+    }
+
+    /**
+     * Make a Polynomial of the sum so far. The accumulator is not changed and can keep adding.
+     *
+     * @return a new Polynomial of degree {@link #getDegree()}.
+     * @since 1.3.0
+     */
+    public Polynomial build() {
+        Coef[] coefs = new Coef[this.degree + 1];
+
+        for (int i = 0; i < coefs.length; i++) {
+            coefs[i] = this.coefs[i].build();
+        }
+
+        return new Polynomial(coefs);
+    }
+
+    /**
+     * Start again from the Polynomial 0, keeping the space already used.
+     *
+     * @return this accumulator
+     * @since 1.3.0
+     */
+    public PolynomialAccumulator clear() {
+        for (int i = 0; i <= this.degree; i++) {
+            this.coefs[i].clear();
+        }
+
+        this.degree = 0;
+        return this;
+    }
+
+    /**
+     * Get the builder for a degree, raising the degree of the sum if needed.
+     */
+    private CoefBuilder coefAt(int degree) {
+        if (degree >= this.coefs.length) {
+            int length = this.coefs.length;
+            this.coefs = Arrays.copyOf(this.coefs, Math.max(degree + 1, 2 * length));
+
+            for (int i = length; i < this.coefs.length; i++) {
+                this.coefs[i] = new CoefBuilder();
+            }
+        }
+
+        this.degree = Math.max(this.degree, degree);
+        return this.coefs[degree];
+    }
+}
@@ -0,0 +1,341 @@
+package org.dalton.polyfun;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the results of {@link Polynomial#times(Polynomial)}, {@link Polynomial#raiseTo(int)} and
+ * {@link Polynomial#of(Polynomial)}, so the same product, power or composition is only worked out once.
+ * <p>
+ * The cache is off until one is set with {@link #setDefault(PolynomialCache)}. After that the Polynomial
+ * methods look up their results in it without any other change to the calling code:
+ * <pre>{@code
+ * PolynomialCache.setDefault(new PolynomialCache(1000));
+ * Polynomial square = p.times(p);  // worked out and remembered
+ * Polynomial again = p.times(p);   // a copy of the remembered result
+ * }</pre>
+ * <p>
+ * Operands are looked up by value, as {@link Polynomial#equals(Object)} compares them, so an equal
+ * Polynomial built some other way finds the same result. The operands and results are kept as
+ * {@link ImmutablePolynomial} copies, so changing a Polynomial afterwards can't change what is
+ * remembered, and every hit returns a new Polynomial the caller is free to change. When the cache is
+ * full the least recently used results are dropped first.
+ * <p>
+ * Products of Polynomials that are all numbers depend on {@link PolynomialMultiplier#getDefault()}, so
+ * call {@link #clear()} after changing it. Instances can be shared between threads.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public class PolynomialCache {
+    private static final int TIMES = 0;
+    private static final int RAISE_TO = 1;
+    private static final int OF = 2;
+
+    private static volatile PolynomialCache defaultCache;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long bytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Construct a cache that holds up to a number of results, however big they are.
+     *
+     * @param maxEntries The most results to keep.
+     * @since 1.3.0
+     */
+    public PolynomialCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE);
+    }
+
+    /**
+     * Construct a cache that holds up to a number of results and up to roughly a number of bytes.
+     *
+     * @param maxEntries The most results to keep.
+     * @param maxBytes   About how much memory the kept operands and results may take up. See
+     *                   {@link #getBytes()}.
+     * @throws AssertionError If either limit is less than 1.
+     * @since 1.3.0
+     */
+    public PolynomialCache(int maxEntries, long maxBytes) throws AssertionError {
+        if (maxEntries < 1 || maxBytes < 1) {
+            String msg = String.format("Cannot make a cache of %d entries and %d bytes.", maxEntries, maxBytes);
+            throw (new AssertionError(msg));
+        }
+
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get the cache used by the Polynomial methods.
+     *
+     * @return the default cache, or null if caching is off.
+     * @since 1.3.0
+     */
+    public static PolynomialCache getDefault() {
+        return defaultCache;
+    }
+
+    /**
+     * Set the cache used by the Polynomial methods.
+     *
+     * @param cache the new default cache, or null to turn caching off.
+     * @since 1.3.0
+     */
+    public static void setDefault(PolynomialCache cache) {
+        defaultCache = cache;
+    }
+
+    /**
+     * Multiply two Polynomials, or get a copy of the product if it was worked out before.
+     *
+     * @param polynomial1 The first Polynomial.
+     * @param polynomial2 The second Polynomial.
+     * @return the product
+     * @since 1.3.0
+     */
+    public Polynomial times(Polynomial polynomial1, Polynomial polynomial2) {
+        Key key = new Key(TIMES, new ImmutablePolynomial(polynomial1), new ImmutablePolynomial(polynomial2), 0);
+        Polynomial result = this.get(key);
+        if (result != null) return result;
+
+        return this.put(key, polynomial1.multiply(polynomial2));
+    }
+
+    /**
+     * Raise a Polynomial to a power, or get a copy of the result if it was worked out before.
+     *
+     * @param polynomial The Polynomial.
+     * @param power      to raise by
+     * @return the result
+     * @since 1.3.0
+     */
+    public Polynomial raiseTo(Polynomial polynomial, int power) {
+        Key key = new Key(RAISE_TO, new ImmutablePolynomial(polynomial), null, power);
+        Polynomial result = this.get(key);
+        if (result != null) return result;
+
+        return this.put(key, polynomial.power(power));
+    }
+
+    /**
+     * Compose two Polynomials, or get a copy of the composition if it was worked out before.
+     *
+     * @param outer The outer Polynomial, p(x).
+     * @param inner The inner Polynomial, q(x).
+     * @return p[q(x)]
+     * @since 1.3.0
+     */
+    public Polynomial of(Polynomial outer, Polynomial inner) {
+        Key key = new Key(OF, new ImmutablePolynomial(outer), new ImmutablePolynomial(inner), 0);
+        Polynomial result = this.get(key);
+        if (result != null) return result;
+
+        return this.put(key, outer.compose(inner));
+    }
+
+    /**
+     * Get the number of results kept.
+     *
+     * @return the number of entries
+     * @since 1.3.0
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Get roughly how much memory the kept operands and results take up. This is an estimate from the
+     * number of Coefs, Terms and Atoms, not a measurement.
+     *
+     * @return the estimated number of bytes
+     * @since 1.3.0
+     */
+    public synchronized long getBytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Get the number of lookups that found a result.
+     *
+     * @return the number of hits
+     * @since 1.3.0
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Get the number of lookups that had to work out the result.
+     *
+     * @return the number of misses
+     * @since 1.3.0
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Get the number of results dropped to stay within the limits.
+     *
+     * @return the number of evictions
+     * @since 1.3.0
+     */
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Get the fraction of lookups that found a result.
+     *
+     * @return hits / (hits + misses), or 0 if there were no lookups.
+     * @since 1.3.0
+     */
+    public synchronized double getHitRate() {
+        long lookups = this.hitCount + this.missCount;
+        return lookups == 0 ? 0.0D : (double) this.hitCount / lookups;
+    }
+
+    /**
+     * Drop all the results and reset the counts.
+     *
+     * @since 1.3.0
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.bytes = 0;
+        this.hitCount = 0;
+        this.missCount = 0;
+        this.evictionCount = 0;
+    }
+
+    /**
+     * Returns a printable summary of the counts.
+     *
+     * @return a printable string
+     * @since 1.3.0
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("PolynomialCache[entries=%d, bytes=%d, hits=%d, misses=%d, evictions=%d]",
+                this.entries.size(), this.bytes, this.hitCount, this.missCount, this.evictionCount);
+    }
+
+    /**
+     * A copy of the result, or null if it isn't kept. Copying happens outside the lock.
+     */
+    private Polynomial get(Key key) {
+        Entry entry;
+
+        synchronized (this) {
+            entry = this.entries.get(key);
+
+            if (entry == null) {
+                this.missCount++;
+                return null;
+            }
+
+            this.hitCount++;
+        }
+
+        return entry.result.toPolynomial();
+    }
+
+    /**
+     * Keep a result worked out outside the lock, dropping the least recently used ones to make room.
+     */
+    private Polynomial put(Key key, Polynomial result) {
+        ImmutablePolynomial kept = new ImmutablePolynomial(result);
+        long size = sizeOf(key.polynomial1) + (key.polynomial2 == null ? 0 : sizeOf(key.polynomial2)) + sizeOf(kept);
+
+        synchronized (this) {
+            Entry previous = this.entries.put(key, new Entry(kept, size));
+            if (previous != null) this.bytes -= previous.bytes;
+            this.bytes += size;
+
+            Iterator<Map.Entry<Key, Entry>> eldest = this.entries.entrySet().iterator();
+
+            while (this.entries.size() > this.maxEntries || (this.bytes > this.maxBytes && this.entries.size() > 1)) {
+                // The new result is the most recently used, so it is dropped last.
+                Map.Entry<Key, Entry> evicted = eldest.next();
+                this.bytes -= evicted.getValue().bytes;
+                eldest.remove();
+                this.evictionCount++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Rough size of an ImmutablePolynomial, counting object headers, fields and array slots.
+     */
+    private static long sizeOf(ImmutablePolynomial polynomial) {
+        long size = 48;
+
+        for (ImmutableCoef coef : polynomial.getCoefs()) {
+            size += 40;
+
+            for (ImmutableTerm term : coef.getTerms()) {
+                size += 48 + 24L * term.getAtoms().length;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * An operation and its operands.
+     */
+    private static final class Key {
+        private final int operation;
+        private final ImmutablePolynomial polynomial1;
+        private final ImmutablePolynomial polynomial2;
+        private final int power;
+        private final int hashCode;
+
+        private Key(int operation, ImmutablePolynomial polynomial1, ImmutablePolynomial polynomial2, int power) {
+            this.operation = operation;
+            this.polynomial1 = polynomial1;
+            this.polynomial2 = polynomial2;
+            this.power = power;
+
+            int hashCode = 31 * operation + polynomial1.hashCode();
+            hashCode = 31 * hashCode + (polynomial2 == null ? 0 : polynomial2.hashCode());
+            this.hashCode = 31 * hashCode + power;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            if (!(object instanceof Key)) return false;
+
+            Key key = (Key) object;
+            return this.hashCode == key.hashCode && this.operation == key.operation && this.power == key.power
+                    && this.polynomial1.equals(key.polynomial1)
+                    && (this.polynomial2 == null ? key.polynomial2 == null : this.polynomial2.equals(key.polynomial2));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    private static final class Entry {
+        private final ImmutablePolynomial result;
+        private final long bytes;
+
+        private Entry(ImmutablePolynomial result, long bytes) {
+            this.result = result;
+            this.bytes = bytes;
+        }
+    }
+}
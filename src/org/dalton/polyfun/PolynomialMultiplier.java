@@ -0,0 +1,416 @@
+package org.dalton.polyfun;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Multiplies polynomials whose coefficients are all numbers, given as arrays of doubles (lowest degree
+ * first). The method depends on the number of coefficients in the shorter polynomial:
+ * <ul>
+ * <li>Fewer than {@link #getKaratsubaThreshold()}: schoolbook, i.e. every coefficient times every
+ * coefficient.</li>
+ * <li>Fewer than {@link #getFftThreshold()}: Karatsuba, which splits each polynomial in half and
+ * needs 3 half-size products instead of 4.</li>
+ * <li>Otherwise: convolution with a fast Fourier transform.</li>
+ * </ul>
+ * <p>
+ * Accuracy, compared to {@link Polynomial#times(Polynomial)}:
+ * <ul>
+ * <li>Schoolbook adds the products for each power of X in the same order as Polynomial.times, so the
+ * results are identical.</li>
+ * <li>Karatsuba adds and subtracts partial sums, so results can differ in the last few bits. Integer
+ * coefficients come out exact as long as every partial sum stays below 2^53.</li>
+ * <li>The FFT error is relative to the biggest coefficients, not to each coefficient: it is roughly
+ * 1e-16 * log2(n) * (sum of |a_i|) * (max of |b_j|). Small coefficients next to much bigger ones can lose
+ * most of their digits, and integer results are only close to integers.</li>
+ * </ul>
+ * <p>
+ * Exact integer mode (on by default): when every coefficient of both polynomials is a whole number, the
+ * product is computed exactly with a number-theoretic transform instead (see {@link #multiplyExact}),
+ * and each coefficient is rounded to a double only once at the end. Schoolbook is still used for short
+ * polynomials when its sums can't round, i.e. when they stay below 2^53.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public class PolynomialMultiplier {
+    private static volatile PolynomialMultiplier defaultMultiplier = new PolynomialMultiplier();
+
+    private volatile int karatsubaThreshold = 32;
+    private volatile int fftThreshold = 1024;
+    private volatile boolean exactIntegers = true;
+
+    /**
+     * Construct a multiplier with the default crossover points (Karatsuba from 32 coefficients, FFT from
+     * 1024 coefficients).
+     *
+     * @since 1.3.0
+     */
+    public PolynomialMultiplier() {
+    }
+
+    /**
+     * Construct a multiplier with given crossover points.
+     *
+     * @param karatsubaThreshold Use Karatsuba when both polynomials have at least this many coefficients.
+     * @param fftThreshold       Use the FFT when both polynomials have at least this many coefficients.
+     * @since 1.3.0
+     */
+    public PolynomialMultiplier(int karatsubaThreshold, int fftThreshold) {
+        this.setKaratsubaThreshold(karatsubaThreshold);
+        this.setFftThreshold(fftThreshold);
+    }
+
+    /**
+     * Get the multiplier used by {@link Polynomial#times(Polynomial)} and
+     * {@link DoublePolynomial#times(DoublePolynomial)}.
+     *
+     * @return the default multiplier
+     * @since 1.3.0
+     */
+    public static PolynomialMultiplier getDefault() {
+        return defaultMultiplier;
+    }
+
+    /**
+     * Get the Karatsuba crossover point.
+     *
+     * @return the number of coefficients from which Karatsuba is used.
+     * @since 1.3.0
+     */
+    public int getKaratsubaThreshold() {
+        return this.karatsubaThreshold;
+    }
+
+    /**
+     * Get the FFT crossover point.
+     *
+     * @return the number of coefficients from which the FFT is used.
+     * @since 1.3.0
+     */
+    public int getFftThreshold() {
+        return this.fftThreshold;
+    }
+
+    /**
+     * Check if whole-number coefficients are multiplied exactly.
+     *
+     * @return true if exact integer mode is on.
+     * @since 1.3.0
+     */
+    public boolean isExactIntegers() {
+        return this.exactIntegers;
+    }
+
+    /**
+     * Set the multiplier used by {@link Polynomial#times(Polynomial)} and
+     * {@link DoublePolynomial#times(DoublePolynomial)}.
+     *
+     * @param multiplier the new default multiplier
+     * @since 1.3.0
+     */
+    public static void setDefault(PolynomialMultiplier multiplier) {
+        defaultMultiplier = multiplier;
+    }
+
+    /**
+     * Set the Karatsuba crossover point. Values below 2 are treated as 2, since Karatsuba can't split a
+     * single coefficient.
+     *
+     * @param karatsubaThreshold Use Karatsuba when both polynomials have at least this many coefficients.
+     * @since 1.3.0
+     */
+    public void setKaratsubaThreshold(int karatsubaThreshold) {
+        this.karatsubaThreshold = Math.max(2, karatsubaThreshold);
+    }
+
+    /**
+     * Set the FFT crossover point. Use Integer.MAX_VALUE to never use the FFT.
+     *
+     * @param fftThreshold Use the FFT when both polynomials have at least this many coefficients.
+     * @since 1.3.0
+     */
+    public void setFftThreshold(int fftThreshold) {
+        this.fftThreshold = fftThreshold;
+    }
+
+    /**
+     * Turn exact integer mode on or off.
+     *
+     * @param exactIntegers true to multiply whole-number coefficients exactly.
+     * @since 1.3.0
+     */
+    public void setExactIntegers(boolean exactIntegers) {
+        this.exactIntegers = exactIntegers;
+    }
+
+    /**
+     * Multiply two polynomials given by their numerical coefficients.
+     *
+     * @param a coefficients of the first polynomial, lowest degree first
+     * @param b coefficients of the second polynomial, lowest degree first
+     * @return coefficients of the product, of length a.length + b.length - 1
+     * @since 1.3.0
+     */
+    public double[] multiply(double[] a, double[] b) {
+        int shorter = Math.min(a.length, b.length);
+
+        if (this.exactIntegers && isIntegral(a) && isIntegral(b)
+                && a.length + b.length - 1 <= NumberTheoreticTransform.MAX_LENGTH
+                && (shorter >= this.karatsubaThreshold || maxAbs(a) * maxAbs(b) * shorter >= 0x1p53)) {
+            return toDoubles(NumberTheoreticTransform.multiply(toLongs(a), toLongs(b)));
+        }
+
+        if (shorter >= this.fftThreshold) return fft(a, b);
+
+        double[] product = new double[a.length + b.length - 1];
+
+        if (shorter < this.karatsubaThreshold) {
+            schoolbook(a, 0, a.length, b, 0, b.length, product, 0);
+        } else if (a.length >= b.length) {
+            this.karatsubaBlocks(a, b, product);
+        } else {
+            this.karatsubaBlocks(b, a, product);
+        }
+
+        return product;
+    }
+
+    /**
+     * Multiply two polynomials with integer coefficients exactly, using number-theoretic transforms modulo
+     * several primes and the Chinese remainder theorem. Takes O(n log n) time like the FFT, with no
+     * rounding.
+     *
+     * @param a coefficients of the first polynomial, lowest degree first
+     * @param b coefficients of the second polynomial, lowest degree first
+     * @return coefficients of the product, of length a.length + b.length - 1
+     * @throws ArithmeticException If the product has more than 2^23 coefficients.
+     * @since 1.3.0
+     */
+    public BigInteger[] multiplyExact(long[] a, long[] b) throws ArithmeticException {
+        return NumberTheoreticTransform.multiply(a, b);
+    }
+
+    /**
+     * Check if every value is a whole number small enough to convert to a long (below 2^62).
+     */
+    private static boolean isIntegral(double[] values) {
+        for (double value : values) {
+            if (value != Math.rint(value) || Math.abs(value) >= 0x1p62) return false;
+        }
+
+        return true;
+    }
+
+    private static double maxAbs(double[] values) {
+        double max = 0;
+
+        for (double value : values) {
+            max = Math.max(max, Math.abs(value));
+        }
+
+        return max;
+    }
+
+    private static long[] toLongs(double[] values) {
+        long[] longs = new long[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            longs[i] = (long) values[i];
+        }
+
+        return longs;
+    }
+
+    private static double[] toDoubles(BigInteger[] values) {
+        double[] doubles = new double[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            doubles[i] = values[i].doubleValue();
+        }
+
+        return doubles;
+    }
+
+    /**
+     * Multiply every coefficient by every coefficient, adding the products into the result.
+     * For each power of X, the products are added in the order of a's coefficients, like
+     * Polynomial.times.
+     */
+    static void schoolbook(double[] a, int aFrom, int aLength, double[] b, int bFrom, int bLength,
+                           double[] result, int resultFrom) {
+        for (int i = 0; i < aLength; i++) {
+            double coefficient = a[aFrom + i];
+
+            for (int j = 0; j < bLength; j++) {
+                result[resultFrom + i + j] += coefficient * b[bFrom + j];
+            }
+        }
+    }
+
+    /**
+     * Karatsuba needs polynomials of the same length, so cut the longer one into pieces the length of
+     * the shorter one and add up the products of the pieces.
+     */
+    private void karatsubaBlocks(double[] longer, double[] shorter, double[] result) {
+        int n = shorter.length;
+        double[] block = new double[n];
+
+        for (int from = 0; from < longer.length; from += n) {
+            int length = Math.min(n, longer.length - from);
+
+            if (length == n) {
+                this.karatsuba(longer, from, shorter, 0, n, result, from);
+            } else {
+                // Pad the last piece with zeros.
+                Arrays.fill(block, 0);
+                System.arraycopy(longer, from, block, 0, length);
+                double[] product = new double[2 * n - 1];
+                this.karatsuba(block, 0, shorter, 0, n, product, 0);
+
+                for (int i = 0; i < length + n - 1; i++) {
+                    result[from + i] += product[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Karatsuba product of a[aFrom..aFrom+n) and b[bFrom..bFrom+n), added into result starting at
+     * resultFrom.
+     * <p>
+     * With a = a0 + a1 X^h and b = b0 + b1 X^h:
+     * a*b = a0b0 + ((a0+a1)(b0+b1) - a0b0 - a1b1) X^h + a1b1 X^2h
+     */
+    private void karatsuba(double[] a, int aFrom, double[] b, int bFrom, int n, double[] result, int resultFrom) {
+        if (n < this.karatsubaThreshold) {
+            schoolbook(a, aFrom, n, b, bFrom, n, result, resultFrom);
+            return;
+        }
+
+        int low = n / 2;
+        int high = n - low;
+
+        double[] low0 = new double[2 * low - 1];
+        double[] high1 = new double[2 * high - 1];
+        this.karatsuba(a, aFrom, b, bFrom, low, low0, 0);
+        this.karatsuba(a, aFrom + low, b, bFrom + low, high, high1, 0);
+
+        double[] aSum = new double[high];
+        double[] bSum = new double[high];
+        for (int i = 0; i < high; i++) {
+            aSum[i] = a[aFrom + low + i];
+            bSum[i] = b[bFrom + low + i];
+        }
+        for (int i = 0; i < low; i++) {
+            aSum[i] += a[aFrom + i];
+            bSum[i] += b[bFrom + i];
+        }
+
+        double[] middle = new double[2 * high - 1];
+        this.karatsuba(aSum, 0, bSum, 0, high, middle, 0);
+
+        for (int i = 0; i < low0.length; i++) {
+            middle[i] -= low0[i];
+            result[resultFrom + i] += low0[i];
+        }
+        for (int i = 0; i < high1.length; i++) {
+            middle[i] -= high1[i];
+            result[resultFrom + 2 * low + i] += high1[i];
+        }
+        for (int i = 0; i < middle.length; i++) {
+            result[resultFrom + low + i] += middle[i];
+        }
+    }
+
+    /**
+     * Multiply by transforming both polynomials, multiplying point by point, and transforming back.
+     */
+    private static double[] fft(double[] a, double[] b) {
+        int length = a.length + b.length - 1;
+        int size = Integer.highestOneBit(length);
+        if (size < length) size *= 2;
+
+        double[] aReal = new double[size];
+        double[] aImaginary = new double[size];
+        double[] bReal = new double[size];
+        double[] bImaginary = new double[size];
+        System.arraycopy(a, 0, aReal, 0, a.length);
+        System.arraycopy(b, 0, bReal, 0, b.length);
+
+        transform(aReal, aImaginary, false);
+        transform(bReal, bImaginary, false);
+
+        for (int i = 0; i < size; i++) {
+            double real = aReal[i] * bReal[i] - aImaginary[i] * bImaginary[i];
+            double imaginary = aReal[i] * bImaginary[i] + aImaginary[i] * bReal[i];
+            aReal[i] = real;
+            aImaginary[i] = imaginary;
+        }
+
+        transform(aReal, aImaginary, true);
+
+        double[] product = new double[length];
+        for (int i = 0; i < length; i++) {
+            product[i] = aReal[i] / size;
+        }
+
+        return product;
+    }
+
+    /**
+     * In-place iterative radix-2 FFT. The length must be a power of 2. The inverse transform is not scaled.
+     */
+    private static void transform(double[] real, double[] imaginary, boolean inverse) {
+        int n = real.length;
+
+        // Bit-reversal permutation
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+
+            if (i < j) {
+                double swap = real[i];
+                real[i] = real[j];
+                real[j] = swap;
+                swap = imaginary[i];
+                imaginary[i] = imaginary[j];
+                imaginary[j] = swap;
+            }
+        }
+
+        // Twiddle factors are computed directly rather than by repeated multiplication, to limit rounding.
+        double[] cos = new double[n / 2];
+        double[] sin = new double[n / 2];
+        for (int k = 0; k < n / 2; k++) {
+            double angle = 2 * Math.PI * k / n;
+            cos[k] = Math.cos(angle);
+            sin[k] = inverse ? Math.sin(angle) : -Math.sin(angle);
+        }
+
+        for (int length = 2; length <= n; length *= 2) {
+            int half = length / 2;
+            int step = n / length;
+
+            for (int start = 0; start < n; start += length) {
+                for (int k = 0; k < half; k++) {
+                    double wReal = cos[k * step];
+                    double wImaginary = sin[k * step];
+                    int even = start + k;
+                    int odd = even + half;
+
+                    double oddReal = real[odd] * wReal - imaginary[odd] * wImaginary;
+                    double oddImaginary = real[odd] * wImaginary + imaginary[odd] * wReal;
+
+                    real[odd] = real[even] - oddReal;
+                    imaginary[odd] = imaginary[even] - oddImaginary;
+                    real[even] += oddReal;
+                    imaginary[even] += oddImaginary;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.dalton.polyfun;
+
+import java.util.Arrays;
+
+/**
+ * The powers of one Polynomial, computed by repeated squaring and kept so they can be reused.
+ * <p>
+ * Example: to get p(x)^64, p(x) is multiplied out to p^4 (p^2, p^3, p^4) and then squared 4 times
+ * (p^8, p^16, p^32, p^64), 7 multiplications instead of 63. Every power computed along the way is kept,
+ * so asking for p^65 afterwards only takes one more multiplication.
+ * <p>
+ * The Polynomials returned are shared with this object, so they should not be changed. Likewise the
+ * base Polynomial should not be changed while its powers are in use.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public class PolynomialPowers {
+    /**
+     * Powers up to this one are multiplied out one at a time. Squaring saves at most one small
+     * multiplication there, and this keeps low powers identical to earlier versions of the library.
+     */
+    private static final int SQUARING_THRESHOLD = 4;
+
+    private Polynomial base;
+    private Polynomial[] powers;
+
+    /**
+     * Construct the powers of a Polynomial. Nothing is computed until a power is asked for.
+     *
+     * @param base The Polynomial to raise to powers.
+     * @since 1.3.0
+     */
+    public PolynomialPowers(Polynomial base) {
+        this.base = base;
+        this.powers = new Polynomial[]{new Polynomial(1.0), copyOf(base)};
+    }
+
+    /**
+     * Get the base Polynomial.
+     *
+     * @return the Polynomial being raised to powers.
+     * @since 1.3.0
+     */
+    public Polynomial getBase() {
+        return this.base;
+    }
+
+    /**
+     * Raise the base to a power, reusing any powers that were already computed.
+     * <p>
+     * If the previous power is known it is multiplied by the base once. Otherwise even powers are the
+     * square of half the power, and odd powers are the base times the power below. Powers up to 4 are
+     * always the base times the power below.
+     *
+     * @param power to raise by. Powers of 0 or less give the Polynomial 1.
+     * @return Polynomial the result. It is shared, so don't change it.
+     * @since 1.3.0
+     */
+    public Polynomial raiseTo(int power) {
+        if (power <= 0) return this.powers[0];
+
+        if (this.isKnown(power)) return this.powers[power];
+
+        Polynomial polynomial;
+        if (power <= SQUARING_THRESHOLD || power % 2 == 1 || this.isKnown(power - 1)) {
+            polynomial = this.base.times(this.raiseTo(power - 1));
+        } else {
+            Polynomial half = this.raiseTo(power / 2);
+            polynomial = half.times(half);
+        }
+
+        this.keep(power, polynomial);
+        return polynomial;
+    }
+
+    /**
+     * Check if a power was already computed.
+     *
+     * @param power The exponent.
+     * @return true if it's been computed.
+     */
+    private boolean isKnown(int power) {
+        return power < this.powers.length && this.powers[power] != null;
+    }
+
+    /**
+     * Save a computed power, growing the array if needed.
+     *
+     * @param power      The exponent.
+     * @param polynomial The base raised to the exponent.
+     */
+    private void keep(int power, Polynomial polynomial) {
+        if (power >= this.powers.length) {
+            this.powers = Arrays.copyOf(this.powers, Math.max(power + 1, 2 * this.powers.length));
+        }
+
+        this.powers[power] = polynomial;
+    }
+
+    /**
+     * Copy a Polynomial with new Coefs, Terms and Atoms, so changing the first power doesn't change the base.
+     */
+    private static Polynomial copyOf(Polynomial polynomial) {
+        Coef[] coefs = new Coef[polynomial.getCoefs().length];
+
+        for (int i = 0; i < coefs.length; i++) {
+            Term[] terms = polynomial.getCoefAt(i).getTerms();
+            coefs[i] = new Coef();
+            if (terms == null) continue;
+
+            Term[] copies = new Term[terms.length];
+
+            for (int j = 0; j < terms.length; j++) {
+                Atom[] atoms = terms[j].getAtoms() == null ? null : new Atom[terms[j].getAtoms().length];
+
+                for (int k = 0; atoms != null && k < atoms.length; k++) {
+                    Atom atom = terms[j].getAtoms()[k];
+                    atoms[k] = new Atom(atom.getLetter(), atom.getSubscript(), atom.getPower());
+                }
+
+                copies[j] = terms[j].withAtoms(atoms);
+            }
+
+            coefs[i].setTerms(copies);
+        }
+
+        return new Polynomial(coefs);
+    }
+}
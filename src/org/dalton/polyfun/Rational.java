@@ -0,0 +1,414 @@
+package org.dalton.polyfun;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * An exact fraction, used as the numerical coefficient of a Term instead of a double so that sums like
+ * 0.1 + 0.2 - 0.3 come out as exactly 0 and like Terms cancel.
+ * <p>
+ * Fractions are kept in lowest terms with a positive denominator. While the numerator and denominator
+ * fit in longs, arithmetic is done on the longs, without creating any objects other than the result. If
+ * a result would overflow, it is worked out with BigIntegers instead, and so on from there.
+ * <p>
+ * Rationals cannot be changed, so they can be shared and used as keys in hash maps.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public final class Rational extends Number implements Comparable<Rational> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Longs up to this size convert to doubles exactly.
+     */
+    private static final long EXACT_DOUBLE = 1L << 53;
+
+    private static final MathContext DIVISION = new MathContext(40);
+
+    public static final Rational ZERO = new Rational(0, 1);
+    public static final Rational ONE = new Rational(1, 1);
+
+    // Used while the fraction fits in longs, otherwise 0
+    private final long numerator;
+    private final long denominator;
+
+    // Used if it doesn't, otherwise null
+    private final BigInteger bigNumerator;
+    private final BigInteger bigDenominator;
+
+    private Rational(long numerator, long denominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.bigNumerator = null;
+        this.bigDenominator = null;
+    }
+
+    private Rational(BigInteger numerator, BigInteger denominator) {
+        this.numerator = 0;
+        this.denominator = 0;
+        this.bigNumerator = numerator;
+        this.bigDenominator = denominator;
+    }
+
+    /**
+     * Make a whole number.
+     *
+     * @param value The number.
+     * @return The Rational value/1.
+     * @since 1.3.0
+     */
+    public static Rational of(long value) {
+        if (value == 0) return ZERO;
+        if (value == 1) return ONE;
+        if (value == Long.MIN_VALUE) return new Rational(BigInteger.valueOf(value), BigInteger.ONE);
+
+        return new Rational(value, 1);
+    }
+
+    /**
+     * Make a fraction, in lowest terms.
+     *
+     * @param numerator   The number on top.
+     * @param denominator The number on the bottom.
+     * @return The Rational numerator/denominator.
+     * @throws AssertionError If the denominator is 0.
+     * @since 1.3.0
+     */
+    public static Rational of(long numerator, long denominator) throws AssertionError {
+        if (denominator == 0) throw new AssertionError("The denominator of a Rational cannot be 0.");
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            return of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        }
+
+        if (denominator < 0) {
+            numerator = -numerator;
+            denominator = -denominator;
+        }
+
+        long gcd = gcd(Math.abs(numerator), denominator);
+        return lowest(numerator / gcd, denominator / gcd);
+    }
+
+    /**
+     * Make a fraction of any size, in lowest terms.
+     *
+     * @param numerator   The number on top.
+     * @param denominator The number on the bottom.
+     * @return The Rational numerator/denominator.
+     * @throws AssertionError If the denominator is 0.
+     * @since 1.3.0
+     */
+    public static Rational of(BigInteger numerator, BigInteger denominator) throws AssertionError {
+        if (denominator.signum() == 0) throw new AssertionError("The denominator of a Rational cannot be 0.");
+
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+
+        BigInteger gcd = numerator.gcd(denominator);
+        if (!gcd.equals(BigInteger.ONE)) {
+            numerator = numerator.divide(gcd);
+            denominator = denominator.divide(gcd);
+        }
+
+        // Long.MIN_VALUE fits, but its negative doesn't, so it is kept as a BigInteger.
+        if (numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE
+                && numerator.longValue() != Long.MIN_VALUE) {
+            return lowest(numerator.longValue(), denominator.longValue());
+        }
+
+        return new Rational(numerator, denominator);
+    }
+
+    /**
+     * Make the fraction a double is written as, e.g. 0.1 gives 1/10, not the binary fraction nearest to it.
+     * Whole numbers are made without creating any Strings.
+     *
+     * @param value The number.
+     * @return The Rational equal to {@link Double#toString(double)} of the value.
+     * @throws AssertionError If the value is infinite or not a number.
+     * @since 1.3.0
+     */
+    public static Rational valueOf(double value) throws AssertionError {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            String msg = String.format("%s cannot be made into a Rational.", value);
+            throw (new AssertionError(msg));
+        }
+
+        if (value == Math.rint(value) && Math.abs(value) < EXACT_DOUBLE) return of((long) value);
+
+        BigDecimal decimal = new BigDecimal(Double.toString(value));
+        BigInteger unscaled = decimal.unscaledValue();
+
+        if (decimal.scale() < 0) return of(unscaled.multiply(BigInteger.TEN.pow(-decimal.scale())), BigInteger.ONE);
+
+        return of(unscaled, BigInteger.TEN.pow(decimal.scale()));
+    }
+
+    /**
+     * Get the number on top.
+     *
+     * @return The numerator, which has the sign of the fraction.
+     * @since 1.3.0
+     */
+    public BigInteger getNumerator() {
+        return this.bigNumerator == null ? BigInteger.valueOf(this.numerator) : this.bigNumerator;
+    }
+
+    /**
+     * Get the number on the bottom.
+     *
+     * @return The denominator, which is always positive.
+     * @since 1.3.0
+     */
+    public BigInteger getDenominator() {
+        return this.bigDenominator == null ? BigInteger.valueOf(this.denominator) : this.bigDenominator;
+    }
+
+    /**
+     * Add a Rational to this one.
+     *
+     * @param rational The Rational to add.
+     * @return The sum.
+     * @since 1.3.0
+     */
+    public Rational plus(Rational rational) {
+        if (this.isSmall() && rational.isSmall()) {
+            if (this.numerator == 0) return rational;
+            if (rational.numerator == 0) return this;
+
+            try {
+                // a/b + c/d = (a(d/g) + c(b/g)) / (b(d/g)), where g = gcd(b, d)
+                long gcd = gcd(this.denominator, rational.denominator);
+                long thisScale = rational.denominator / gcd;
+                long thatScale = this.denominator / gcd;
+                long numerator = Math.addExact(Math.multiplyExact(this.numerator, thisScale),
+                        Math.multiplyExact(rational.numerator, thatScale));
+                long denominator = Math.multiplyExact(this.denominator, thisScale);
+
+                if (numerator != Long.MIN_VALUE) {
+                    long common = gcd(Math.abs(numerator), denominator);
+                    return lowest(numerator / common, denominator / common);
+                }
+            } catch (ArithmeticException overflow) {
+                // Too big for longs: use BigIntegers.
+            }
+        }
+
+        return of(this.getNumerator().multiply(rational.getDenominator())
+                        .add(rational.getNumerator().multiply(this.getDenominator())),
+                this.getDenominator().multiply(rational.getDenominator()));
+    }
+
+    /**
+     * Subtract a Rational from this one.
+     *
+     * @param rational The Rational to subtract.
+     * @return The difference.
+     * @since 1.3.0
+     */
+    public Rational minus(Rational rational) {
+        return this.plus(rational.negate());
+    }
+
+    /**
+     * Multiply this by a Rational.
+     *
+     * @param rational The Rational to multiply by.
+     * @return The product.
+     * @since 1.3.0
+     */
+    public Rational times(Rational rational) {
+        if (this.isSmall() && rational.isSmall()) {
+            if (this.numerator == 0 || rational.numerator == 0) return ZERO;
+            if (this == ONE) return rational;
+            if (rational == ONE) return this;
+
+            try {
+                // Cancel across first, so the product is already in lowest terms.
+                long gcd1 = gcd(Math.abs(this.numerator), rational.denominator);
+                long gcd2 = gcd(Math.abs(rational.numerator), this.denominator);
+                long numerator = Math.multiplyExact(this.numerator / gcd1, rational.numerator / gcd2);
+                long denominator = Math.multiplyExact(this.denominator / gcd2, rational.denominator / gcd1);
+
+                if (numerator != Long.MIN_VALUE) return lowest(numerator, denominator);
+            } catch (ArithmeticException overflow) {
+                // Too big for longs: use BigIntegers.
+            }
+        }
+
+        return of(this.getNumerator().multiply(rational.getNumerator()),
+                this.getDenominator().multiply(rational.getDenominator()));
+    }
+
+    /**
+     * Divide this by a Rational.
+     *
+     * @param rational The Rational to divide by.
+     * @return The quotient.
+     * @throws AssertionError If the Rational is 0.
+     * @since 1.3.0
+     */
+    public Rational dividedBy(Rational rational) throws AssertionError {
+        if (rational.signum() == 0) throw new AssertionError("Cannot divide by 0.");
+
+        return this.times(rational.reciprocal());
+    }
+
+    /**
+     * Get the negative of this.
+     *
+     * @return -this
+     * @since 1.3.0
+     */
+    public Rational negate() {
+        if (this.isSmall()) return lowest(-this.numerator, this.denominator);
+
+        return of(this.bigNumerator.negate(), this.bigDenominator);
+    }
+
+    /**
+     * Get the sign.
+     *
+     * @return -1, 0 or 1 as this is negative, zero or positive.
+     * @since 1.3.0
+     */
+    public int signum() {
+        return this.isSmall() ? Long.signum(this.numerator) : this.bigNumerator.signum();
+    }
+
+    /**
+     * Get the nearest double.
+     *
+     * @return The value as a double.
+     * @since 1.3.0
+     */
+    @Override
+    public double doubleValue() {
+        if (this.isSmall() && Math.abs(this.numerator) <= EXACT_DOUBLE && this.denominator <= EXACT_DOUBLE) {
+            // Both convert exactly, and division rounds correctly.
+            return (double) this.numerator / this.denominator;
+        }
+
+        return new BigDecimal(this.getNumerator()).divide(new BigDecimal(this.getDenominator()), DIVISION).doubleValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) this.doubleValue();
+    }
+
+    /**
+     * Get the whole number part, rounding toward 0.
+     *
+     * @return the value as a long, which wraps around if it is too big.
+     * @since 1.3.0
+     */
+    @Override
+    public long longValue() {
+        return this.isSmall() ? this.numerator / this.denominator
+                : this.bigNumerator.divide(this.bigDenominator).longValue();
+    }
+
+    @Override
+    public int intValue() {
+        return (int) this.longValue();
+    }
+
+    /**
+     * Compare the values.
+     *
+     * @param rational The Rational to compare to.
+     * @return negative, 0 or positive as this is less than, equal to or greater than the Rational.
+     * @since 1.3.0
+     */
+    @Override
+    public int compareTo(Rational rational) {
+        return this.minus(rational).signum();
+    }
+
+    /**
+     * Check if two Rationals are the same fraction.
+     *
+     * @param object The object to compare to this one.
+     * @return true if it is a Rational with the same value.
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Rational)) return false;
+
+        Rational rational = (Rational) object;
+
+        // Both are in lowest terms, and a fraction is kept in longs whenever it fits.
+        if (this.isSmall() != rational.isSmall()) return false;
+        if (this.isSmall()) return this.numerator == rational.numerator && this.denominator == rational.denominator;
+
+        return this.bigNumerator.equals(rational.bigNumerator) && this.bigDenominator.equals(rational.bigDenominator);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        if (this.isSmall()) return 31 * Long.hashCode(this.numerator) + Long.hashCode(this.denominator);
+
+        return 31 * this.bigNumerator.hashCode() + this.bigDenominator.hashCode();
+    }
+
+    /**
+     * Write the fraction, e.g. "-3/4", or just the numerator if the denominator is 1.
+     *
+     * @return a printable string
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        if (this.isSmall()) {
+            return this.denominator == 1 ? Long.toString(this.numerator) : this.numerator + "/" + this.denominator;
+        }
+
+        return this.bigDenominator.equals(BigInteger.ONE) ? this.bigNumerator.toString()
+                : this.bigNumerator + "/" + this.bigDenominator;
+    }
+
+    private boolean isSmall() {
+        return this.bigNumerator == null;
+    }
+
+    private Rational reciprocal() {
+        if (this.isSmall()) return of(this.denominator, this.numerator);
+
+        return of(this.bigDenominator, this.bigNumerator);
+    }
+
+    /**
+     * A fraction already in lowest terms with a positive denominator, neither of them Long.MIN_VALUE.
+     */
+    private static Rational lowest(long numerator, long denominator) {
+        if (denominator == 1) return of(numerator);
+
+        return new Rational(numerator, denominator);
+    }
+
+    /**
+     * Greatest common divisor of two numbers that aren't negative.
+     */
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+
+        return a == 0 ? 1 : a;
+    }
+}
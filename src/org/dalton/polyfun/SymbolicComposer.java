@@ -0,0 +1,102 @@
+package org.dalton.polyfun;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Composes Polynomials whose coefficients aren't all numbers, splitting the output degrees across a
+ * ForkJoinPool.
+ * <p>
+ * p(q(x)) = p_0 + p_1 q(x) + p_2 q(x)^2 + ..., so once the powers of q are known, each Coef of the
+ * composition, p(q)_k = p_0 (q^0)_k + p_1 (q^1)_k + p_2 (q^2)_k + ..., only depends on them and the Coefs
+ * of p, and the degrees can be worked out independently. Every degree adds its products in the same
+ * order as {@link Polynomial#of(Polynomial)} does on one thread, so the result is the same.
+ * <p>
+ * Horner's rule or splitting p in halves would need fewer multiplications, but would add the products in
+ * a different order, so the numbers could round differently. Instead the powers are built by
+ * {@link PolynomialPowers}, whose multiplications are split by {@link SymbolicMultiplier}, and the
+ * products with the Coefs of p are split here by {@link DegreeTask}.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class SymbolicComposer {
+    private SymbolicComposer() {
+    }
+
+    /**
+     * Check if the products of a composition are worth splitting across threads.
+     *
+     * @param outer  The outer Polynomial.
+     * @param powers The powers of the inner Polynomial, from 0 to the degree of outer.
+     * @return true if they take at least {@link SymbolicMultiplier#PARALLEL_THRESHOLD} Term products.
+     * @since 1.3.0
+     */
+    static boolean isWorthSplitting(Polynomial outer, Polynomial[] powers) {
+        long[] work = work(outer, powers);
+
+        return work.length > 2 && work[work.length - 1] >= SymbolicMultiplier.PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Add up the products of the Coefs of outer with the powers of the inner Polynomial in a ForkJoinPool.
+     *
+     * @param outer  The outer Polynomial.
+     * @param powers The powers of the inner Polynomial, from 0 to the degree of outer.
+     * @param pool   The pool to run in.
+     * @return the composition
+     * @since 1.3.0
+     */
+    static Polynomial compose(Polynomial outer, Polynomial[] powers, ForkJoinPool pool) {
+        long[] work = work(outer, powers);
+        Coef[] composition = new Coef[work.length - 1];
+
+        pool.invoke(new DegreeTask(k -> degree(outer, powers, k), composition, work, 0, composition.length));
+
+        return new Polynomial(composition);
+    }
+
+    /**
+     * Work out the Coef of one degree of the composition.
+     */
+    private static Coef degree(Polynomial outer, Polynomial[] powers, int k) {
+        CoefBuilder sum = new CoefBuilder();
+
+        for (int i = 0; i <= outer.getDegree(); i++) {
+            if (k <= powers[i].getDegree()) sum.addProduct(powers[i].getCoefAt(k), outer.getCoefAt(i));
+        }
+
+        return sum.build();
+    }
+
+    /**
+     * work[k] is the number of Term products for degrees below k, and the composition has degree
+     * work.length - 2.
+     */
+    private static long[] work(Polynomial outer, Polynomial[] powers) {
+        int degree = 0;
+
+        for (int i = 0; i <= outer.getDegree(); i++) {
+            degree = Math.max(degree, powers[i].getDegree());
+        }
+
+        long[] products = new long[degree + 1];
+
+        for (int i = 0; i <= outer.getDegree(); i++) {
+            Term[] outerTerms = outer.getCoefAt(i).getTerms();
+            if (outerTerms == null) continue;
+
+            for (int k = 0; k <= powers[i].getDegree(); k++) {
+                Term[] terms = powers[i].getCoefAt(k).getTerms();
+                if (terms != null) products[k] += (long) terms.length * outerTerms.length;
+            }
+        }
+
+        long[] work = new long[degree + 2];
+
+        for (int k = 0; k <= degree; k++) {
+            work[k + 1] = work[k] + products[k];
+        }
+
+        return work;
+    }
+}
@@ -0,0 +1,120 @@
+package org.dalton.polyfun;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Multiplies Polynomials whose coefficients aren't all numbers, splitting the output degrees across a
+ * ForkJoinPool.
+ * <p>
+ * Each Coef of the product, (pq)_k = p_0 q_k + p_1 q_(k-1) + ... + p_k q_0, only depends on the Coefs of
+ * p and q, so the degrees can be worked out independently. Every degree adds its products in the same
+ * order as {@link PolynomialAccumulator#addProduct(Polynomial, Polynomial)}, so the result is the same
+ * as multiplying on one thread.
+ * <p>
+ * The middle degrees have the most products, so the work of each degree is counted in products of a
+ * Term by a Term and {@link DegreeTask} splits the degrees by work.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class SymbolicMultiplier {
+    /**
+     * Products with at least this many Term-by-Term multiplications are split across a ForkJoinPool by
+     * default, and ranges of degrees are split until they have fewer than this many.
+     */
+    static final long PARALLEL_THRESHOLD = 1 << 12;
+
+    private SymbolicMultiplier() {
+    }
+
+    /**
+     * Check if a product is big enough to be worth splitting across threads.
+     *
+     * @param polynomial1 The first Polynomial.
+     * @param polynomial2 The second Polynomial.
+     * @return true if it takes at least {@link #PARALLEL_THRESHOLD} Term products.
+     * @since 1.3.0
+     */
+    static boolean isWorthSplitting(Polynomial polynomial1, Polynomial polynomial2) {
+        return polynomial1.getDegree() + polynomial2.getDegree() > 0
+                && termCount(polynomial1) * termCount(polynomial2) >= PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Multiply two Polynomials in a ForkJoinPool.
+     *
+     * @param polynomial1 The first Polynomial.
+     * @param polynomial2 The second Polynomial.
+     * @param pool        The pool to run in.
+     * @return the product
+     * @since 1.3.0
+     */
+    static Polynomial multiply(Polynomial polynomial1, Polynomial polynomial2, ForkJoinPool pool) {
+        Coef[] coefs1 = coefsOf(polynomial1);
+        Coef[] coefs2 = coefsOf(polynomial2);
+        int[] terms1 = termCounts(coefs1);
+        int[] terms2 = termCounts(coefs2);
+
+        // work[k] is the number of Term products for degrees below k.
+        long[] work = new long[coefs1.length + coefs2.length];
+
+        for (int k = 0; k < work.length - 1; k++) {
+            long products = 0;
+
+            for (int j = Math.max(0, k - coefs2.length + 1); j <= Math.min(k, coefs1.length - 1); j++) {
+                products += (long) terms1[j] * terms2[k - j];
+            }
+
+            work[k + 1] = work[k] + products;
+        }
+
+        Coef[] product = new Coef[work.length - 1];
+        pool.invoke(new DegreeTask(k -> degree(coefs1, coefs2, k), product, work, 0, product.length));
+
+        return new Polynomial(product);
+    }
+
+    /**
+     * Work out the Coef of one degree of the product.
+     */
+    private static Coef degree(Coef[] coefs1, Coef[] coefs2, int k) {
+        CoefBuilder sum = new CoefBuilder();
+
+        for (int j = Math.max(0, k - coefs2.length + 1); j <= Math.min(k, coefs1.length - 1); j++) {
+            sum.addProduct(coefs1[j], coefs2[k - j]);
+        }
+
+        return sum.build();
+    }
+
+    private static Coef[] coefsOf(Polynomial polynomial) {
+        Coef[] coefs = new Coef[polynomial.getDegree() + 1];
+
+        for (int i = 0; i < coefs.length; i++) {
+            coefs[i] = polynomial.getCoefAt(i);
+        }
+
+        return coefs;
+    }
+
+    static int[] termCounts(Coef[] coefs) {
+        int[] counts = new int[coefs.length];
+
+        for (int i = 0; i < coefs.length; i++) {
+            counts[i] = coefs[i].getTerms() == null ? 0 : coefs[i].getTerms().length;
+        }
+
+        return counts;
+    }
+
+    static long termCount(Polynomial polynomial) {
+        long count = 0;
+
+        for (int i = 0; i <= polynomial.getDegree(); i++) {
+            Term[] terms = polynomial.getCoefAt(i).getTerms();
+            if (terms != null) count += terms.length;
+        }
+
+        return count;
+    }
+}
@@ -1,6 +1,7 @@
 package org.dalton.polyfun;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * An array of Atoms and a number. The Atoms are understood to be multiplied.
@@ -9,14 +10,31 @@ import java.util.Arrays;
  * P(x) = 2(a_1)^3(b)x^4 - (a_2)(b_4)x^2 + 7ab + b_2
  * <p>
  * 2(a_1)^3(b) is a term, and 7ab + b_2 is two terms: 7ab and b_2
+ * <p>
+ * The number can also be kept as an exact {@link Rational}, see {@link #Term(Rational, Atom[])}. Then
+ * sums and products with other Terms are worked out exactly, reading the number of a Term that isn't
+ * exact as the decimal it prints as, so like Terms that cancel out come to exactly 0.
+ * {@link #getNumericalCoefficient()} still gives the number as a double, and
+ * {@link #setNumericalCoefficient(double)} makes the Term not exact again.
  *
  * @author David Gomprecht  (wrote the original Term object)
  * @author Katie Jergens (wrote refactored version based on Dr. Gomprecht's library)
  * @version 1.1.0 (06/17/2019)
  */
 public class Term implements Comparable<Term> {
+    /**
+     * The order of {@link Atom#isLessThan(Atom)}: by letter, then by subscript.
+     */
+    private static final Comparator<Atom> BY_VARIABLE = (atom1, atom2) -> {
+        int byLetter = Character.compare(atom1.getLetter(), atom2.getLetter());
+
+        return byLetter != 0 ? byLetter : Integer.compare(atom1.getSubscript(), atom2.getSubscript());
+    };
+
     private double numericalCoefficient;
+    private Rational exactCoefficient; // null unless exact, otherwise numericalCoefficient is its double value
     private Atom[] atoms;
+    private PackedAtoms packed; // see monomial()
 
     /**
      * Default constructor.
@@ -76,6 +94,18 @@ public class Term implements Comparable<Term> {
         }
     }
 
+    /**
+     * Construct a Term with an exact number and an array of Atoms.
+     *
+     * @param exactCoefficient The number, which is kept exactly.
+     * @param atoms            Atom[] attribute
+     * @since 1.3.0
+     */
+    public Term(Rational exactCoefficient, Atom[] atoms) {
+        this(exactCoefficient.doubleValue(), atoms);
+        this.exactCoefficient = exactCoefficient;
+    }
+
     /**
      * Get atoms array.
      *
@@ -124,6 +154,7 @@ public class Term implements Comparable<Term> {
     @Deprecated
     public void setTerm(double num, Atom[] atoms) {
         this.numericalCoefficient = num;
+        this.exactCoefficient = null;
         this.atoms = atoms; // TODO: should this be an arraycopy?
 
         this.reduce();
@@ -137,6 +168,7 @@ public class Term implements Comparable<Term> {
     @Deprecated
     public void setTermDouble(double num) {
         this.numericalCoefficient = num;
+        this.exactCoefficient = null;
     }
 
     /**
@@ -151,13 +183,45 @@ public class Term implements Comparable<Term> {
 
 
     /**
-     * Set the numericalCoefficient.
+     * Set the numericalCoefficient. The Term is no longer exact.
      *
      * @param numericalCoefficient
      * @since 1.1.0
      */
     public void setNumericalCoefficient(double numericalCoefficient) {
         this.numericalCoefficient = numericalCoefficient;
+        this.exactCoefficient = null;
+    }
+
+    /**
+     * Get the exact number, if the Term keeps one.
+     *
+     * @return the number as a Rational, or null if the Term is not exact.
+     * @since 1.3.0
+     */
+    public Rational getExactCoefficient() {
+        return this.exactCoefficient;
+    }
+
+    /**
+     * Set the number, keeping it exactly.
+     *
+     * @param exactCoefficient The new number.
+     * @since 1.3.0
+     */
+    public void setExactCoefficient(Rational exactCoefficient) {
+        this.numericalCoefficient = exactCoefficient.doubleValue();
+        this.exactCoefficient = exactCoefficient;
+    }
+
+    /**
+     * Checks if the number is kept exactly.
+     *
+     * @return true if the Term has an exact number.
+     * @since 1.3.0
+     */
+    public boolean isExact() {
+        return this.exactCoefficient != null;
     }
 
     /**
@@ -208,7 +272,7 @@ public class Term implements Comparable<Term> {
             atoms[i] = this.getAtoms()[i + 1];
         }
 
-        return new Term(this.numericalCoefficient, atoms);
+        return this.withAtoms(atoms);
     }
 
     /**
@@ -225,7 +289,7 @@ public class Term implements Comparable<Term> {
 
         System.arraycopy(this.atoms, 0, atoms, 1, atoms.length - 1);
 
-        return new Term(this.numericalCoefficient, atoms);
+        return this.withAtoms(atoms);
     }
 
     /**
@@ -275,27 +339,33 @@ public class Term implements Comparable<Term> {
      * @since 1.0.0
      */
     public Term place(Atom atom) {
-        Term term = new Term(this.numericalCoefficient, this.atoms);
+        // Walk past the atoms that come before it, stopping at the last one
+        int i = 0;
 
-        if (atom.isLessThan(this.atoms[0])) {
-            return term.paste(atom);
+        while (i < this.atoms.length - 1 && !atom.isLessThan(this.atoms[i]) && !atom.isLike(this.atoms[i])) {
+            i++;
+        }
+
+        boolean like = atom.isLike(this.atoms[i]);
+        Atom[] atoms = new Atom[like ? this.atoms.length : this.atoms.length + 1];
+
+        // The atoms walked past are copied, the ones after it are shared
+        for (int j = 0; j < i; j++) {
+            atoms[j] = new Atom(this.atoms[j].getLetter(), this.atoms[j].getSubscript(), this.atoms[j].getPower());
+        }
+
+        if (like) {
+            atoms[i] = this.atoms[i].timesLikeAtom(atom);
+            System.arraycopy(this.atoms, i + 1, atoms, i + 1, this.atoms.length - i - 1);
+        } else if (atom.isLessThan(this.atoms[i])) {
+            atoms[i] = atom;
+            System.arraycopy(this.atoms, i, atoms, i + 1, this.atoms.length - i);
         } else {
-            Atom atom1;
-
-            if (atom.isLike(this.atoms[0])) {
-                atom1 = this.atoms[0];
-                return term.snip().paste(atom1.timesLikeAtom(atom));
-            } else if (this.atoms.length == 1) {
-                atom1 = new Atom(atom.getLetter(), atom.getSubscript(), atom.getPower());
-                Atom[] atoms1 = new Atom[]{atom1};
-                Term term1 = new Term(this.numericalCoefficient, atoms1);
-                return term1.paste(this.atoms[0]);
-            } else {
-                atom1 = new Atom();
-                atom1.setAtom(this.atoms[0].getLetter(), this.atoms[0].getSubscript(), this.atoms[0].getPower());
-                return term.snip().place(atom).paste(atom1);
-            }
+            atoms[i] = this.atoms[i];
+            atoms[i + 1] = new Atom(atom.getLetter(), atom.getSubscript(), atom.getPower());
         }
+
+        return this.withAtoms(atoms);
     }
 
     /**
@@ -314,21 +384,31 @@ public class Term implements Comparable<Term> {
         if (this.getAtoms() == null || this.getAtoms().length == 0) {
             // If there are no atoms make this the atom
             this.setAtoms(new Atom[]{atom});
-        } else if (atom.isLessThan(this.atoms[0])) {
-            // If this atom is smaller then it goes in front
-            this.push(atom);
-        } else if (atom.isLike(this.atoms[0])) {
-            // Replace the first atom with the product of the first atom and this atom
-            Atom head = this.pop();
-            this.push(head.timesLikeAtom(atom));
-        } else if (this.atoms.length == 1) {
-            // Otherwise put it at the end
-            this.append(atom);
+            return;
+        }
+
+        // Walk past the atoms that come before it, stopping at the last one
+        int i = 0;
+
+        while (i < this.atoms.length - 1 && !atom.isLessThan(this.atoms[i]) && !atom.isLike(this.atoms[i])) {
+            i++;
+        }
+
+        if (atom.isLike(this.atoms[i])) {
+            // Replace the like atom with the product of it and this atom
+            Atom[] atoms = this.atoms.clone();
+            atoms[i] = this.atoms[i].timesLikeAtom(atom);
+            this.setAtoms(atoms);
         } else {
-            // Recursive calls
-            Atom head = this.pop();
-            this.insert(atom);
-            this.push(head);
+            // If this atom is smaller then it goes in front, otherwise it goes at the end
+            int position = atom.isLessThan(this.atoms[i]) ? i : i + 1;
+            Atom[] atoms = new Atom[this.atoms.length + 1];
+
+            System.arraycopy(this.atoms, 0, atoms, 0, position);
+            atoms[position] = atom;
+            System.arraycopy(this.atoms, position, atoms, position + 1, this.atoms.length - position);
+
+            this.setAtoms(atoms);
         }
     }
 
@@ -343,11 +423,27 @@ public class Term implements Comparable<Term> {
      */
     public Term simplify() {
         if (this.atoms != null && this.atoms.length > 1) {
-            Atom atom = new Atom(this.atoms[0].getLetter(), this.atoms[0].getSubscript(), this.atoms[0].getPower());
-            Term term = new Term(this.numericalCoefficient, this.atoms);
+            Atom[] atoms = new Atom[this.atoms.length];
+
+            for (int i = 0; i < atoms.length; i++) {
+                atoms[i] = new Atom(this.atoms[i].getLetter(), this.atoms[i].getSubscript(), this.atoms[i].getPower());
+            }
+
+            // Put the copies in order, then combine the like atoms, which are now next to each other. Unlike
+            // reduce(), atoms with a power of 0 are kept.
+            Arrays.sort(atoms, BY_VARIABLE);
+
+            int length = 0;
+
+            for (int i = 0; i < atoms.length; i++) {
+                if (length > 0 && atoms[length - 1].isLike(atoms[i])) {
+                    atoms[length - 1] = atoms[length - 1].timesLikeAtom(atoms[i]);
+                } else {
+                    atoms[length++] = atoms[i];
+                }
+            }
 
-            term = term.snip().simplify().place(atom);
-            this.setAtoms(term.getAtoms());
+            this.setAtoms(length == atoms.length ? atoms : Arrays.copyOf(atoms, length));
         }
 
         return this;
@@ -365,19 +461,28 @@ public class Term implements Comparable<Term> {
     public void reduce() {
         if (this.getAtoms() == null) return;
 
-        // Shallow copy
-        Atom[] unorderedAtoms = this.getAtoms();
+        // Copy, cleaning out atoms with a power of 0
+        Atom[] atoms = new Atom[this.atoms.length];
+        int count = 0;
 
-        // Remove existing atoms
-        this.atoms = new Atom[0];
+        for (Atom atom : this.atoms) {
+            if (atom.getPower() != 0) atoms[count++] = atom;
+        }
 
-        // Put them back in order
-        for (int i = 0; i < unorderedAtoms.length; i++) {
-            // Clean out atoms with a power of 0
-            if (unorderedAtoms[i].getPower() != 0) {
-                this.insert(unorderedAtoms[i]);
+        // Put them in order, then combine the like atoms, which are now next to each other
+        Arrays.sort(atoms, 0, count, BY_VARIABLE);
+
+        int length = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (length > 0 && atoms[length - 1].isLike(atoms[i])) {
+                atoms[length - 1] = atoms[length - 1].timesLikeAtom(atoms[i]);
+            } else {
+                atoms[length++] = atoms[i];
             }
         }
+
+        this.atoms = length == atoms.length ? atoms : Arrays.copyOf(atoms, length);
     }
 
     /**
@@ -390,22 +495,15 @@ public class Term implements Comparable<Term> {
     public Term times(Term term) {
         if (this.atoms == null || term.atoms == null) return term;
 
-        Atom[] atoms = new Atom[this.atoms.length + term.getAtoms().length];
-
-        for (int i = 0; i < atoms.length; ++i) {
+        // Multiplying the packed Monomials adds the powers of like Atoms and leaves them in order.
+        Atom[] atoms = this.monomial().times(term.monomial()).toAtoms();
 
-            if (i < this.atoms.length) {
-                // Assign the first array of Atoms into atoms
-                atoms[i] = this.atoms[i];
-            } else {
-                // Assign the second array of Atoms into atoms
-                atoms[i] = term.getAtoms()[i - this.atoms.length];
-            }
+        if (this.isExact() || term.isExact()) {
+            Rational product = exactProduct(this, term.getNumericalCoefficient(), term.getExactCoefficient());
+            if (product != null) return new Term(product, atoms);
         }
 
-        Term termProduct = new Term(this.numericalCoefficient * term.getNumericalCoefficient(), atoms);
-        termProduct.reduce();
-        return termProduct;
+        return new Term(this.numericalCoefficient * term.getNumericalCoefficient(), atoms);
     }
 
     /**
@@ -416,9 +514,80 @@ public class Term implements Comparable<Term> {
      * @since 1.0.0
      */
     public Term times(double scalar) {
+        if (this.isExact()) {
+            Rational product = exactProduct(this, scalar, null);
+            if (product != null) return new Term(product, this.getAtoms());
+        }
+
         return new Term(scalar * this.getNumericalCoefficient(), this.getAtoms());
     }
 
+    /**
+     * Make a new Term with the same number, exact or not, and a copy of the given array of Atoms.
+     *
+     * @param atoms The Atoms of the new Term.
+     * @return the new Term
+     * @since 1.3.0
+     */
+    Term withAtoms(Atom[] atoms) {
+        Term term = new Term(this.numericalCoefficient, atoms);
+        term.exactCoefficient = this.exactCoefficient;
+        return term;
+    }
+
+    /**
+     * Add the number of a like Term to this one's. If either is exact, the sum is exact.
+     *
+     * @param term The Term whose number to add. It is not changed.
+     * @since 1.3.0
+     */
+    void addNumericalCoefficient(Term term) {
+        if (this.isExact() || term.isExact()) {
+            Rational these = exactValue(this.numericalCoefficient, this.exactCoefficient);
+            Rational those = exactValue(term.numericalCoefficient, term.exactCoefficient);
+
+            if (these != null && those != null) {
+                this.setExactCoefficient(these.plus(those));
+                return;
+            }
+        }
+
+        this.setNumericalCoefficient(term.getNumericalCoefficient() + this.getNumericalCoefficient());
+    }
+
+    /**
+     * Multiply the number by a scalar, exactly if the Term is exact.
+     *
+     * @param scalar The number to multiply by.
+     * @since 1.3.0
+     */
+    void scaleNumericalCoefficient(double scalar) {
+        Rational product = this.isExact() ? exactProduct(this, scalar, null) : null;
+
+        if (product != null) this.setExactCoefficient(product);
+        else this.setNumericalCoefficient(scalar * this.getNumericalCoefficient());
+    }
+
+    /**
+     * The exact product of the number of a Term and another number, or null if either can't be made exact.
+     */
+    private static Rational exactProduct(Term term, double number, Rational exactNumber) {
+        Rational these = exactValue(term.numericalCoefficient, term.exactCoefficient);
+        Rational those = exactValue(number, exactNumber);
+
+        return these == null || those == null ? null : these.times(those);
+    }
+
+    /**
+     * The exact number if there is one, else the double read as a decimal, or null if it is infinite or NaN.
+     */
+    private static Rational exactValue(double number, Rational exactNumber) {
+        if (exactNumber != null) return exactNumber;
+        if (Double.isNaN(number) || Double.isInfinite(number)) return null;
+
+        return Rational.valueOf(number);
+    }
+
     /**
      * Tests to see if two terms have "like" (same letter & subscript) Atoms
      *
@@ -454,19 +623,8 @@ public class Term implements Comparable<Term> {
      * @since 1.1.0
      */
     public boolean isLike(Term term) {
-        this.reduce();  // TODO. It seems wrong to change a Term in a checking method.
-        term.reduce();
-
-        if (this.getAtoms().length != term.getAtoms().length) return false;
-
-        for (int i = 0; i < this.getAtoms().length; ++i) {
-            if (!this.getAtoms()[i].isLike(term.getAtoms()[i])) {
-                return false;
-            }
-        }
-
-        // If got this far, have the same number of Atoms each atom pair has same letter and subscript.
-        return true;
+        // Comparing the packed Monomials doesn't depend on the order of the Atoms, so neither Term is reduced.
+        return this.monomial().isLike(term.monomial());
     }
 
     /**
@@ -486,7 +644,7 @@ public class Term implements Comparable<Term> {
         Term term1 = new Term(this.getNumericalCoefficient(), this.getAtoms());
         Term term2 = new Term(term.getNumericalCoefficient(), term.getAtoms());
 
-        if (term1.getAtoms().length <= term2.getAtoms().length && !this.equals(term)) {
+        if (term1.getAtoms().length <= term2.getAtoms().length && !this.isLikeTerm(term)) {
 
             for (int i = 0; i < term1.getAtoms().length; ++i) {
                 if (term1.getAtoms()[i].lessThanOrEqual(term2.getAtoms()[i])) {
@@ -507,6 +665,8 @@ public class Term implements Comparable<Term> {
      * @since 1.0.0
      */
     public boolean isZero() {
+        if (this.exactCoefficient != null) return this.exactCoefficient.signum() == 0;
+
         return this.numericalCoefficient == 0.0D;
     }
 
@@ -528,15 +688,14 @@ public class Term implements Comparable<Term> {
      * @since 1.1.0
      */
     public boolean isConstantTerm() {
-        boolean isConstantTerm = false;
-        if (this.getAtoms().length == 0) isConstantTerm = true;
-        else if (this.getAtoms().length == 1 && this.getAtoms()[0].toString() == "") isConstantTerm = true;
-        return isConstantTerm;
+        // A single atom to the power 0 prints as nothing, so it counts as a number.
+        if (this.getAtoms().length == 0) return true;
+        return this.getAtoms().length == 1 && this.getAtoms()[0].getPower() == 0;
     }
 
     /**
      * @since 1.0.0
-     * @deprecated use {@link #equals(Term)} instead.
+     * @deprecated use {@link #isLikeTerm(Term)} instead.
      */
     @Deprecated
     public boolean identicalTo(Term term) {
@@ -590,34 +749,100 @@ public class Term implements Comparable<Term> {
     }
 
     /**
-     * Check equality between two Terms.
+     * Check equality between two Terms. As it always has, this ignores the numerical coefficient, so 2ab
+     * equals 3ba: it is the same as {@link #isLikeTerm(Term)}. Use {@link #equals(Object)} to compare the
+     * numbers too.
      *
      * @param term Term to check
      * @return boolean True if they are equal
      * @since 1.1.0
      */
     public boolean equals(Term term) {
-        this.reduce(); // TODO. It seems wrong to change a Term in a checking method.
-        term.reduce();
+        return this.isLikeTerm(term);
+    }
+
+    /**
+     * Checks equality with any object. Unlike {@link #equals(Term)}, the numbers must be the same too, so
+     * 2ab equals 2ba but not 3ab, and equal Terms have equal hash codes. Call it with an Object, e.g.
+     * {@code term.equals((Object) other)}, to compare two Terms this way. Don't change a Term while it
+     * is a key in a hash map.
+     *
+     * @param object The object to compare to this one.
+     * @return true if it is a Term with the same number and the same Atoms, in any order
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof Term)) return false;
 
+        Term term = (Term) object;
+        return this.isLikeTerm(term) && hasSameNumber(this.numericalCoefficient, this.exactCoefficient,
+                term.numericalCoefficient, term.exactCoefficient);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = this.getAtoms() == null ? 0 : this.monomial().hashCode();
+
+        return 31 * hashCode + Double.hashCode(this.numericalCoefficient);
+    }
+
+    /**
+     * Tests to see if two Terms are like Terms: the same Atoms, with the same powers, in any order, so
+     * 2ab is like 3ba. Like Terms can be added by adding their numbers. Unlike {@link #isLike(Term)}, the
+     * powers must match too.
+     *
+     * @param term Term to compare to
+     * @return true if they are like Terms
+     * @since 1.3.0
+     */
+    public boolean isLikeTerm(Term term) {
         if (term == null) return false;
         if (this.getAtoms() == null && term.getAtoms() == null) return true;
         if (this.getAtoms() == null) return false;
         if (term.getAtoms() == null) return false;
 
-        if (this.getAtoms().length == term.getAtoms().length) {
-
-            for (int i = 0; i < this.getAtoms().length; ++i) {
-                if (!this.getAtoms()[i].equals(term.getAtoms()[i])) {
-                    return false;
-                }
-            }
+        // Comparing the packed Monomials doesn't depend on the order of the Atoms, so neither Term is reduced.
+        return this.monomial().equals(term.monomial());
+    }
 
-            // If got this far, they must be equal
-            return true;
+    /**
+     * The Atoms packed into a Monomial. It is kept until the Atoms change, whether new Atoms are set or
+     * an Atom is changed through {@link #getAtoms()}, so comparing and hashing Terms doesn't pack them
+     * every time.
+     *
+     * @return the Monomial
+     * @since 1.3.0
+     */
+    Monomial monomial() {
+        Atom[] atoms = this.atoms;
+        if (atoms == null) return Monomial.of(null);
+
+        PackedAtoms packed = this.packed;
+        if (packed == null || !packed.isOf(atoms)) {
+            packed = new PackedAtoms(atoms);
+            this.packed = packed;
         }
 
-        return false;
+        return packed.monomial;
+    }
+
+    /**
+     * True if two numbers, each a double and an exact number or null, are the same. An exact number and a
+     * double are the same if the double, read as a decimal, is the exact number. Also used by
+     * {@link ImmutableTerm}, so Terms and Coefs are equal by the same rule.
+     */
+    static boolean hasSameNumber(double number1, Rational exactNumber1, double number2, Rational exactNumber2) {
+        if (exactNumber1 == null && exactNumber2 == null) return Double.compare(number1, number2) == 0;
+
+        Rational these = exactValue(number1, exactNumber1);
+        return these != null && these.equals(exactValue(number2, exactNumber2));
     }
 
     /**
@@ -648,6 +873,9 @@ public class Term implements Comparable<Term> {
     /**
      * Used for Arrays.sort.
      * Sorts the atoms, then compares alphanumerically. Ignores the numerical coefficient.
+     * Case is ignored first, so a and A come next to each other, but they are not equal: A comes first.
+     * If the atoms of both terms are already in order, as {@link #reduce()} leaves them, the atoms are
+     * compared character by character without building any strings.
      * @param t Term to compare to
      * @return 0 for equal, -1 for less than, 1 for greater than.
      * @since 1.1.0
@@ -668,6 +896,9 @@ public class Term implements Comparable<Term> {
         } else if (this.isConstantTerm()) {
             // If this is a constant and t isn't, this comes after
             return 1;
+        } else if (isInOrder(this.getAtoms()) && isInOrder(t.getAtoms())) {
+            // Sorting wouldn't move anything, so compare the atoms as they are.
+            return Integer.signum(compareAtoms(this.getAtoms(), t.getAtoms()));
         } else {
             // If both terms have atoms, ignore the numerical coefficient,
             // and compare atoms alphanumerically.
@@ -680,13 +911,160 @@ public class Term implements Comparable<Term> {
             String theseAtoms = thisTerm.toString();
             String thoseAtoms = thatTerm.toString();
 
-            if (theseAtoms.equals(t))
-                return 0;
-            else if (theseAtoms.compareToIgnoreCase(thoseAtoms) < 0)
+            int ignoringCase = theseAtoms.compareToIgnoreCase(thoseAtoms);
+            if (ignoringCase == 0)
+                return Integer.signum(theseAtoms.compareTo(thoseAtoms));
+            else if (ignoringCase < 0)
                 return -1;
             else
                 return 1;
         }
     }
-}
 
+    /**
+     * True if each atom has a smaller letter, or the same letter and a smaller subscript, than the next.
+     */
+    private static boolean isInOrder(Atom[] atoms) {
+        for (int i = 1; i < atoms.length; i++) {
+            if (!atoms[i - 1].isLessThan(atoms[i])) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Compare the atoms the way {@link String#compareToIgnoreCase(String)} compares their strings, one
+     * character at a time, then the way {@link String#compareTo(String)} does if that finds no difference.
+     * Used by {@link #compareTo(Term)} and {@link MonomialOrder#ALPHABETICAL}.
+     */
+    static int compareAtoms(Atom[] atoms1, Atom[] atoms2) {
+        int i = 0, j = 0; // Which atom
+        int k = 0, l = 0; // Which character of it
+        int byCase = 0;   // The first difference in case only
+
+        while (true) {
+            // Move past atoms that are finished, or print as nothing.
+            while (i < atoms1.length && k == textLength(atoms1[i])) {
+                i++;
+                k = 0;
+            }
+            while (j < atoms2.length && l == textLength(atoms2[j])) {
+                j++;
+                l = 0;
+            }
+
+            if (i == atoms1.length || j == atoms2.length) {
+                int byLength = (i == atoms1.length ? 0 : 1) - (j == atoms2.length ? 0 : 1);
+                return byLength != 0 ? byLength : byCase;
+            }
+
+            char c1 = textCharAt(atoms1[i], k++);
+            char c2 = textCharAt(atoms2[j], l++);
+            if (c1 != c2) {
+                if (byCase == 0) byCase = c1 - c2;
+                c1 = Character.toLowerCase(Character.toUpperCase(c1));
+                c2 = Character.toLowerCase(Character.toUpperCase(c2));
+                if (c1 != c2) return c1 - c2;
+            }
+        }
+    }
+
+    /**
+     * The length of {@link Atom#toString()}: the letter, then _subscript unless it's -1, then ^power
+     * unless it's 1. Nothing if the power is 0.
+     */
+    private static int textLength(Atom atom) {
+        if (atom.getPower() == 0) return 0;
+
+        int length = 1;
+        if (atom.getSubscript() != -1) length += 1 + digitCount(atom.getSubscript());
+        if (atom.getPower() != 1) length += 1 + digitCount(atom.getPower());
+        return length;
+    }
+
+    /**
+     * The character at the index of {@link Atom#toString()}.
+     */
+    private static char textCharAt(Atom atom, int index) {
+        if (index == 0) return atom.getLetter();
+        index--;
+
+        if (atom.getSubscript() != -1) {
+            if (index == 0) return '_';
+            index--;
+
+            int digits = digitCount(atom.getSubscript());
+            if (index < digits) return digitAt(atom.getSubscript(), index);
+            index -= digits;
+        }
+
+        if (index == 0) return '^';
+        return digitAt(atom.getPower(), index - 1);
+    }
+
+    /**
+     * The length of {@link String#valueOf(int)}, including the minus sign.
+     */
+    private static int digitCount(int n) {
+        long value = Math.abs((long) n);
+        int count = n < 0 ? 2 : 1;
+
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * The character at the index of {@link String#valueOf(int)}.
+     */
+    private static char digitAt(int n, int index) {
+        if (n < 0) {
+            if (index == 0) return '-';
+            index--;
+        }
+
+        long value = Math.abs((long) n);
+        for (int i = digitCount(n) - (n < 0 ? 1 : 0) - 1; i > index; i--) {
+            value /= 10;
+        }
+
+        return (char) ('0' + value % 10);
+    }
+
+    /**
+     * The Monomial of an array of Atoms, and the letter, subscript and power each Atom had when it was
+     * packed, so it can be checked that the Atoms haven't changed since.
+     */
+    private static final class PackedAtoms {
+        private final Atom[] atoms;
+        private final int[] values;
+        private final Monomial monomial;
+
+        private PackedAtoms(Atom[] atoms) {
+            this.atoms = atoms;
+            this.values = new int[3 * atoms.length];
+            this.monomial = Monomial.of(atoms);
+
+            for (int i = 0; i < atoms.length; i++) {
+                this.values[3 * i] = atoms[i].getLetter();
+                this.values[3 * i + 1] = atoms[i].getSubscript();
+                this.values[3 * i + 2] = atoms[i].getPower();
+            }
+        }
+
+        private boolean isOf(Atom[] atoms) {
+            if (atoms != this.atoms) return false;
+
+            for (int i = 0; i < atoms.length; i++) {
+                if (atoms[i].getLetter() != this.values[3 * i]
+                        || atoms[i].getSubscript() != this.values[3 * i + 1]
+                        || atoms[i].getPower() != this.values[3 * i + 2]) return false;
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.dalton.polyfun;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Collects Terms for a Coef, combining like Terms as they are added. Like Terms are found by looking up
+ * their {@link Monomial} in a hash map, so adding n Terms takes O(n) expected time, and the Terms are
+ * sorted only once, when {@link #toTerms()} is called.
+ * <p>
+ * Gives the same Terms as calling {@link Coef#insert(Term)} for each Term in turn: Terms that are zero
+ * are skipped, the first of each set of like Terms is kept and the numerical coefficients of the others
+ * are added to it in the order they come, and like Terms that cancel out are kept, as 0.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+final class TermTable {
+    private final HashMap<Monomial, Term> termsByMonomial;
+    private Term[] terms;
+    private Monomial[] monomials;
+    private int size;
+
+    /**
+     * Make an empty table.
+     *
+     * @param expectedSize About how many Terms will be added.
+     * @since 1.3.0
+     */
+    TermTable(int expectedSize) {
+        this.termsByMonomial = new HashMap<>(Math.max(16, 2 * expectedSize));
+        this.terms = new Term[Math.max(4, expectedSize)];
+        this.monomials = new Monomial[this.terms.length];
+    }
+
+    /**
+     * Add a copy of a Term, or add its numerical coefficient to a like Term already in the table.
+     *
+     * @param term The Term to add. It is not changed.
+     * @since 1.3.0
+     */
+    void add(Term term) {
+        if (term == null || term.isZero()) return;
+
+        Monomial monomial = term.monomial();
+        if (this.combine(monomial, term)) return;
+
+        Term copy = term.withAtoms(term.getAtoms());
+        copy.reduce();
+        this.put(monomial, copy);
+    }
+
+    /**
+     * Add a Term given as its packed Atoms and numerical coefficient, so a product of two Terms can be
+     * added without making a Term for it unless it isn't like any Term already in the table.
+     *
+     * @param monomial             The packed Atoms of the Term.
+     * @param numericalCoefficient The numerical coefficient of the Term.
+     * @since 1.3.0
+     */
+    void add(Monomial monomial, double numericalCoefficient) {
+        if (numericalCoefficient == 0.0D) return;
+        if (this.combine(monomial, numericalCoefficient)) return;
+
+        this.put(monomial, new Term(numericalCoefficient, monomial.toAtoms()));
+    }
+
+    /**
+     * Add copies of an array of Terms.
+     *
+     * @param terms The Terms to add, in order.
+     * @since 1.3.0
+     */
+    void addAll(Term[] terms) {
+        for (Term term : terms) {
+            this.add(term);
+        }
+    }
+
+    /**
+     * Add copies of the Terms in another table, in the order they were first added to it. Terms that
+     * cancelled out there are skipped.
+     *
+     * @param table The table to add. It is not changed.
+     * @since 1.3.0
+     */
+    void addAll(TermTable table) {
+        for (int i = 0; i < table.size; i++) {
+            Term term = table.terms[i];
+
+            if (term.isZero() || this.combine(table.monomials[i], term)) continue;
+
+            this.put(table.monomials[i], term.withAtoms(term.getAtoms()));
+        }
+    }
+
+    /**
+     * Multiply the numerical coefficient of every Term in the table by a scalar.
+     *
+     * @param scalar The number to multiply by.
+     * @since 1.3.0
+     */
+    void scale(double scalar) {
+        for (int i = 0; i < this.size; i++) {
+            this.terms[i].scaleNumericalCoefficient(scalar);
+        }
+    }
+
+    /**
+     * Check if every Term in the table is zero, i.e. there are none or they all cancelled out.
+     *
+     * @return true if the Terms add up to 0.
+     * @since 1.3.0
+     */
+    boolean isZero() {
+        for (int i = 0; i < this.size; i++) {
+            if (!this.terms[i].isZero()) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove all the Terms, keeping the space for reuse.
+     *
+     * @since 1.3.0
+     */
+    void clear() {
+        this.termsByMonomial.clear();
+        Arrays.fill(this.terms, 0, this.size, null);
+        Arrays.fill(this.monomials, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * Get the Terms in the order {@link Coef#insert(Term)} keeps them. The Terms are not copied, so
+     * don't add any more to the table after this.
+     *
+     * @return A new array of the Terms.
+     * @since 1.3.0
+     */
+    Term[] toTerms() {
+        Term[] sorted = Arrays.copyOf(this.terms, this.size);
+        Arrays.sort(sorted, MonomialOrder.getDefault());
+        return sorted;
+    }
+
+    /**
+     * Get copies of the Terms that didn't cancel out, in the order {@link Coef#insert(Term)} keeps them.
+     * The table can still be added to afterwards.
+     *
+     * @return A new array of the Terms, which is empty if they all cancelled out.
+     * @since 1.3.0
+     */
+    Term[] toNonZeroTerms() {
+        Term[] nonZero = new Term[this.size];
+        int count = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            Term term = this.terms[i];
+            if (!term.isZero()) nonZero[count++] = term.withAtoms(term.getAtoms());
+        }
+
+        nonZero = Arrays.copyOf(nonZero, count);
+        Arrays.sort(nonZero, MonomialOrder.getDefault());
+        return nonZero;
+    }
+
+    /**
+     * Add a numerical coefficient to the like Term, if there is one.
+     */
+    private boolean combine(Monomial monomial, double numericalCoefficient) {
+        Term like = this.termsByMonomial.get(monomial);
+        if (like == null) return false;
+
+        if (like.isExact()) like.addNumericalCoefficient(new Term(numericalCoefficient));
+        else like.setNumericalCoefficient(numericalCoefficient + like.getNumericalCoefficient());
+        return true;
+    }
+
+    /**
+     * Add the numerical coefficient of a Term to the like Term, if there is one, exactly if either is exact.
+     */
+    private boolean combine(Monomial monomial, Term term) {
+        Term like = this.termsByMonomial.get(monomial);
+        if (like == null) return false;
+
+        like.addNumericalCoefficient(term);
+        return true;
+    }
+
+    private void put(Monomial monomial, Term term) {
+        this.termsByMonomial.put(monomial, term);
+
+        if (this.size == this.terms.length) {
+            this.terms = Arrays.copyOf(this.terms, 2 * this.size);
+            this.monomials = Arrays.copyOf(this.monomials, 2 * this.size);
+        }
+
+        this.monomials[this.size] = monomial;
+        this.terms[this.size++] = term;
+    }
+}
@@ -0,0 +1,192 @@
+package org.dalton.polyfun;
+
+import java.util.Arrays;
+
+/**
+ * Gives every variable, i.e. every (letter, subscript) pair, a small int id. The first variable seen gets
+ * 0, the next 1 and so on, and a variable keeps its id for as long as the program runs.
+ * <p>
+ * Each variable is stored once, however many Atoms use it, so Terms and Coefs can index, hash and sort
+ * their variables by id instead of comparing letters and subscripts. Ids are given out in the order
+ * variables are first seen, so use {@link #compare(int, int)}, not the ids themselves, to put variables
+ * in the order of {@link Atom#isLessThan(Atom)}.
+ * <p>
+ * Ids can be looked up from any thread, without locking or boxing: variables are keyed by a long in an
+ * open addressing table, which is copied when a variable is added. New variables are rare after the
+ * first few Terms, so the copies don't cost much.
+ *
+ * @author Katie Jergens
+ * @since 1.3.0
+ */
+public final class VariableRegistry {
+    /**
+     * Each variable's key, and its id plus 1 in the same slot, so 0 means an empty slot. Never changed
+     * once it is published: new variables go in a copy.
+     */
+    private static volatile Table table = new Table(new long[64], new int[64], 0);
+
+    /**
+     * The letter and subscript of each id. Written before the table with the id is published, so any
+     * thread that was given an id can read them.
+     */
+    private static volatile char[] letters = new char[64];
+    private static volatile int[] subscripts = new int[64];
+
+    private VariableRegistry() {
+    }
+
+    /**
+     * Get the id of a variable, giving it one if it doesn't have one yet.
+     *
+     * @param letter    The letter of the variable.
+     * @param subscript The subscript of the variable, or -1 for none.
+     * @return The id.
+     * @since 1.3.0
+     */
+    public static int idOf(char letter, int subscript) {
+        long key = ((long) letter << 32) | (subscript & 0xFFFFFFFFL);
+        int id = table.get(key);
+
+        return id >= 0 ? id : register(key, letter, subscript);
+    }
+
+    /**
+     * Get the id of the variable of an Atom, whatever its power.
+     *
+     * @param atom The Atom.
+     * @return The id.
+     * @since 1.3.0
+     */
+    public static int idOf(Atom atom) {
+        return idOf(atom.getLetter(), atom.getSubscript());
+    }
+
+    /**
+     * Get the letter of a variable.
+     *
+     * @param id The id of the variable.
+     * @return The letter.
+     * @since 1.3.0
+     */
+    public static char letterOf(int id) {
+        return letters[id];
+    }
+
+    /**
+     * Get the subscript of a variable.
+     *
+     * @param id The id of the variable.
+     * @return The subscript, or -1 for none.
+     * @since 1.3.0
+     */
+    public static int subscriptOf(int id) {
+        return subscripts[id];
+    }
+
+    /**
+     * Compare two variables the way {@link Atom#isLessThan(Atom)} does: by letter, then by subscript.
+     *
+     * @param id1 The id of the first variable.
+     * @param id2 The id of the second variable.
+     * @return negative if the first variable comes first, 0 if they are the same, positive otherwise.
+     * @since 1.3.0
+     */
+    public static int compare(int id1, int id2) {
+        if (id1 == id2) return 0;
+
+        int byLetter = Character.compare(letters[id1], letters[id2]);
+        if (byLetter != 0) return byLetter;
+
+        return Integer.compare(subscripts[id1], subscripts[id2]);
+    }
+
+    /**
+     * Get the number of variables that have an id.
+     *
+     * @return The number of variables, which is also the next id to be given out.
+     * @since 1.3.0
+     */
+    public static int size() {
+        return table.size;
+    }
+
+    private static synchronized int register(long key, char letter, int subscript) {
+        Table current = table;
+        int existing = current.get(key);
+        if (existing >= 0) return existing;
+
+        int id = current.size;
+
+        if (id == letters.length) {
+            letters = Arrays.copyOf(letters, 2 * id);
+            subscripts = Arrays.copyOf(subscripts, 2 * id);
+        }
+
+        letters[id] = letter;
+        subscripts[id] = subscript;
+        table = current.with(key, id);
+
+        return id;
+    }
+
+    /**
+     * A map from key to id, kept at most half full so lookups stay short.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final int[] ids;
+        private final int size;
+
+        private Table(long[] keys, int[] ids, int size) {
+            this.keys = keys;
+            this.ids = ids;
+            this.size = size;
+        }
+
+        /**
+         * The id of the key, or -1 if it has none.
+         */
+        private int get(long key) {
+            int mask = this.keys.length - 1;
+
+            for (int i = slot(key, mask); this.ids[i] != 0; i = (i + 1) & mask) {
+                if (this.keys[i] == key) return this.ids[i] - 1;
+            }
+
+            return -1;
+        }
+
+        /**
+         * A copy with one more key, made bigger if it would be more than half full.
+         */
+        private Table with(long key, int id) {
+            int length = 2 * (this.size + 1) > this.keys.length ? 2 * this.keys.length : this.keys.length;
+            Table copy = new Table(new long[length], new int[length], this.size + 1);
+
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.ids[i] != 0) copy.put(this.keys[i], this.ids[i] - 1);
+            }
+
+            copy.put(key, id);
+            return copy;
+        }
+
+        private void put(long key, int id) {
+            int mask = this.keys.length - 1;
+            int i = slot(key, mask);
+
+            while (this.ids[i] != 0) {
+                i = (i + 1) & mask;
+            }
+
+            this.keys[i] = key;
+            this.ids[i] = id + 1;
+        }
+
+        private static int slot(long key, int mask) {
+            // Spread the letter and subscript bits over the whole slot index.
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash >>> 32) & mask;
+        }
+    }
+}
@@ -159,4 +159,28 @@ public class AtomTest {
         Atom a = new Atom('a', 1, 1);
         Assert.assertFalse(atom.lessThan(a));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void equalsObjectAndHashCode() {
+        Object a = new Atom('a', 1, 2);
+        Atom same = new Atom('a', 1, 2);
+
+        Assert.assertTrue(a.equals(same));
+        Assert.assertEquals(a.hashCode(), same.hashCode());
+        Assert.assertFalse(a.equals(new Atom('a', 1, 3)));
+        Assert.assertFalse(a.equals("a_1^2"));
+    }
+
+    @Test
+    public void libraryAtomsCanBeChanged() {
+        Polynomial polynomial = new Polynomial('a', 2);
+        Atom atom = polynomial.getCoefAt(2).getTerms()[0].getAtoms()[0];
+
+        atom.setPower(3);
+        Assert.assertEquals(3, atom.getPower());
+
+        new Term('b').getAtoms()[0].setPower(2);
+        new Atom('c', -1, 2).timesLikeAtom(new Atom('c', -1, 3)).setPower(1);
+        new Term('a').times(new Term('b')).getAtoms()[1].setSubscript(4);
+    }
+}
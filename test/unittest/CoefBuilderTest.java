@@ -0,0 +1,89 @@
+package unittest;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.CoefBuilder;
+import org.dalton.polyfun.Term;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class CoefBuilderTest {
+
+    @Test
+    public void emptyBuilderIsZero() {
+        CoefBuilder builder = new CoefBuilder();
+
+        assertTrue(builder.isZero());
+        assertThat(builder.build().getTerms().length, is(0));
+    }
+
+    @Test
+    public void addInPlaceMatchesPlus() {
+        Coef sum = new Coef(0.0D);
+        CoefBuilder builder = new CoefBuilder();
+
+        for (int i = 1; i <= 20; i++) {
+            Coef coef = new Coef(new Term[]{new Term(0.1 * i, new Atom[]{new Atom('a', i % 3, 1)}), new Term(0.3)});
+            sum = sum.plus(coef);
+            builder.addInPlace(coef);
+        }
+
+        assertThat(builder.build().toString(), is(sum.toString()));
+    }
+
+    @Test
+    public void addProductMatchesTimes() {
+        Coef coef1 = new Coef(new Term[]{new Term('a'), new Term('b'), new Term(0.7)});
+        Coef coef2 = new Coef(new Term[]{new Term('a'), new Term(-1.0, new Atom[]{new Atom('b')}), new Term(1.3)});
+
+        Coef expected = new Coef(2.0).plus(coef1.times(coef2)).plus(coef2.times(coef1));
+        Coef actual = new CoefBuilder()
+                .addInPlace(new Term(2.0))
+                .addProduct(coef1, coef2)
+                .addProduct(coef2, coef1)
+                .build();
+
+        assertThat(actual.toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void termsThatCancelAreDropped() {
+        Coef coef = new Coef(new Term[]{new Term('a'), new Term('b')});
+
+        Coef sum = new CoefBuilder().addInPlace(coef).addInPlace(coef.times(-1.0)).addInPlace(new Term('c')).build();
+
+        assertThat(sum.toString(), is("c"));
+        assertThat(sum.getTerms().length, is(1));
+    }
+
+    @Test
+    public void scaleInPlace() {
+        CoefBuilder builder = new CoefBuilder().addInPlace(new Term('a')).addInPlace(new Term(2.0));
+
+        builder.scaleInPlace(3.0);
+
+        assertThat(builder.build().toString(), is("3.0a+6.0"));
+    }
+
+    @Test
+    public void buildDoesNotShareTerms() {
+        CoefBuilder builder = new CoefBuilder().addInPlace(new Term('a'));
+        Coef first = builder.build();
+
+        builder.addInPlace(new Term('a'));
+
+        assertThat(first.toString(), is("a"));
+        assertThat(builder.build().toString(), is("2.0a"));
+    }
+
+    @Test
+    public void clear() {
+        CoefBuilder builder = new CoefBuilder().addInPlace(new Term('a'));
+
+        builder.clear().addInPlace(new Term('b'));
+
+        assertThat(builder.build().toString(), is("b"));
+    }
+}
@@ -2,6 +2,9 @@ package unittest;
 
 import org.dalton.polyfun.Atom;
 import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.ImmutableCoef;
+import org.dalton.polyfun.MonomialOrder;
+import org.dalton.polyfun.Rational;
 import org.dalton.polyfun.Term;
 import org.junit.After;
 import org.junit.Before;
@@ -10,6 +13,10 @@ import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -344,6 +351,78 @@ public class CoefTest {
         assertThat(coef.toString(), is(expected.toString()));
     }
 
+    @Test
+    public void reduceCombinesLikeTermsAnywhere() {
+        Term ab = new Term(2.0, new Atom[]{new Atom('a'), new Atom('b')});
+        Term c = new Term(5.0, new Atom[]{new Atom('c')});
+        Term ba = new Term(3.0, new Atom[]{new Atom('b'), new Atom('a')});
+        Term constant = new Term(4.0);
+
+        Coef coef = new Coef();
+        coef.setTerms(new Term[]{constant, ab, c, ba});
+        coef.reduce();
+
+        assertThat(coef.toString(), is("5.0ab+5.0c+4.0"));
+    }
+
+    @Test
+    public void plusMergesInOrderAndDropsTermsThatCancel() {
+        Coef first = new Coef(new Term[]{new Term(2.0, new Atom[]{new Atom('a')}), new Term('c'), new Term(1.5)});
+        Coef second = new Coef(new Term[]{new Term(-2.0, new Atom[]{new Atom('a')}), new Term('b'), new Term('d'), new Term(1.0)});
+
+        Coef sum = first.plus(second);
+
+        assertThat(sum.toString(), is("b+c+d+2.5"));
+        assertThat(sum.getTerms().length, is(4));
+    }
+
+    @Test
+    public void plusMergesLettersThatDifferInCase() {
+        Coef first = new Coef(new Term[]{new Term('a'), new Term('A')});
+        Coef second = new Coef(new Term[]{new Term('A'), new Term('a')});
+
+        Coef sum = first.plus(second);
+
+        assertThat(sum.toString(), is("2.0A+2.0a"));
+        assertThat(sum.getTerms().length, is(2));
+
+        MonomialOrder.setDefault(MonomialOrder.LEX);
+        try {
+            first = new Coef(new Term[]{new Term('a'), new Term('A')});
+            second = new Coef(new Term[]{new Term('A'), new Term('a')});
+
+            assertThat(first.plus(second).toString(), is("2.0A+2.0a"));
+        } finally {
+            MonomialOrder.setDefault(MonomialOrder.ALPHABETICAL);
+        }
+    }
+
+    @Test
+    public void timesDropsProductsThatCancel() {
+        Coef aPlusB = new Coef(new Term[]{new Term('a'), new Term('b')});
+        Coef aMinusB = new Coef(new Term[]{new Term('a'), new Term(-1.0, new Atom[]{new Atom('b')})});
+
+        Coef product = aPlusB.times(aMinusB);
+
+        assertThat(product.toString(), is("a^2-b^2"));
+        assertThat(product.getTerms().length, is(2));
+    }
+
+    @Test
+    public void reduceKeepsLikeTermsThatCancel() {
+        Term a = new Term(2.0, new Atom[]{new Atom('a')});
+        Term minusA = new Term(-2.0, new Atom[]{new Atom('a')});
+        Term b = new Term(1.0, new Atom[]{new Atom('b')});
+
+        Coef coef = new Coef();
+        coef.setTerms(new Term[]{a, b, minusA});
+        coef.reduce();
+
+        assertThat(coef.getTerms().length, is(2));
+        assertThat(coef.getTerms()[0].getNumericalCoefficient(), is(0.0));
+        assertThat(coef.toString(), is("b"));
+    }
+
     @Test
     public void reduceParamPolyTestFailure109() {
         // d_2^4+c_3^3+e_1^3
@@ -434,6 +513,38 @@ public class CoefTest {
         assertThat(coef.toString(), is(expected));
     }
 
+    @Test
+    public void simplifyManyTerms() {
+        // Far more Terms than a recursive simplify could handle, each one twice, in reverse order.
+        Term[] terms = new Term[20000];
+
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = new Term(1.0, new Atom[]{new Atom('a', terms.length / 2 - i / 2, 1)});
+        }
+
+        coef = new Coef();
+        coef.setTerms(terms);
+        coef.simplify();
+
+        assertEquals(10000, coef.getTerms().length);
+        assertThat(coef.toString(), is(new Coef(terms).toString()));
+        assertThat(coef.getTerms()[0].toString(), is("2.0a_1"));
+    }
+
+    @Test
+    public void simplifyKeepsTermsAfterOnesThatCancel() {
+        Term[] terms = {new Term(1.0, new Atom[]{new Atom('b', -1, 1)}),
+                new Term(-1.0, new Atom[]{new Atom('a', -1, 1)}),
+                new Term(1.0, new Atom[]{new Atom('a', -1, 1)}),
+                new Term(1.0, new Atom[]{new Atom('c', -1, 1)})};
+
+        coef = new Coef();
+        coef.setTerms(terms);
+        coef.simplify();
+
+        assertThat(coef.toString(), is("b+c"));
+    }
+
     @Test
     public void reducePushReorder() {
         Atom[] atoms = new Atom[3];
@@ -574,4 +685,93 @@ public class CoefTest {
     public void isConstantCoef() {
         assertThat(coef.isConstantCoef(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void equalsObjectAndHashCode() {
+        Coef first = new Coef(new Term[]{new Term('a'), new Term(2.0)});
+        Coef second = new Coef();
+        second.setTerms(new Term[]{new Term(1.0), new Term('a'), new Term(1.0), new Term('b'), new Term(-1.0, new Atom[]{new Atom('b')})});
+
+        assertTrue(first.equals(second));
+        assertThat(first.hashCode(), is(second.hashCode()));
+        assertFalse(first.equals(new Coef(new Term[]{new Term('a'), new Term(3.0)})));
+
+        // Comparing doesn't reduce.
+        assertThat(second.getTerms().length, is(5));
+    }
+
+    @Test
+    public void equalsSeesChanges() {
+        Coef first = new Coef(new Term[]{new Term('a')});
+        Coef second = new Coef(new Term[]{new Term('a')});
+        assertTrue(first.equals(second));
+
+        second.insert(new Term('a'));
+        assertFalse(first.equals(second));
+
+        first.setTerms(new Term[]{new Term(2.0, new Atom[]{new Atom('a')})});
+        assertTrue(first.equals(second));
+        assertThat(first.hashCode(), is(second.hashCode()));
+    }
+
+    @Test
+    public void equalsSeesTermsChangedInPlace() {
+        Coef coef = new Coef(new Term[]{new Term(2.0, new Atom[]{new Atom('a')})});
+        Coef twoA = new Coef(new Term[]{new Term(2.0, new Atom[]{new Atom('a')})});
+        Set<Coef> coefs = new HashSet<>();
+        coefs.add(twoA);
+        assertTrue(coef.equals(twoA));
+
+        coef.getTerms()[0].setNumericalCoefficient(5.0);
+        assertFalse(coef.equals(twoA));
+        assertTrue(coef.equals(new Coef(new Term[]{new Term(5.0, new Atom[]{new Atom('a')})})));
+
+        twoA.getTerms()[0].getAtoms()[0].setPower(2);
+        assertFalse(coefs.contains(new Coef(new Term[]{new Term(2.0, new Atom[]{new Atom('a')})})));
+        assertThat(twoA.hashCode(), is(new Coef(new Term[]{new Term(2.0, new Atom[]{new Atom('a', -1, 2)})}).hashCode()));
+
+        coef.getTerms()[0] = new Term('b');
+        assertTrue(coef.equals(new Coef('b')));
+    }
+
+    @Test
+    public void coefsAsHashMapKeys() {
+        Map<Coef, String> names = new HashMap<>();
+        names.put(new Coef(new Term[]{new Term('a'), new Term('b')}), "a+b");
+
+        assertThat(names.get(new Coef(new Term[]{new Term('b'), new Term('a')})), is("a+b"));
+    }
+
+    @Test
+    public void exactTermsCancel() {
+        Coef doubles = new Coef(0.1).plus(new Coef(0.2)).plus(new Coef(-0.3));
+        assertFalse(doubles.isZero());
+
+        Coef exact = new Coef(Rational.of(1, 10)).plus(new Coef(0.2)).plus(new Coef(-0.3));
+        assertTrue(exact.isZero());
+        assertThat(exact.getTerms().length, is(0));
+
+        Coef a = new Coef(new Term[]{new Term(Rational.of(1, 10), new Atom[]{new Atom('a')})});
+        Coef product = a.times(new Coef(new Term[]{new Term('a'), new Term(3.0)}));
+        assertTrue(product.isExact());
+        assertThat(product.getTerms()[0].getExactCoefficient(), is(Rational.of(3, 10)));
+        assertThat(product.getTerms()[1].getExactCoefficient(), is(Rational.of(1, 10)));
+    }
+
+    @Test
+    public void equalsComparesExactNumbers() {
+        Rational third = Rational.of(1, 3);
+        Rational nearlyAThird = Rational.of(100000000000000001L, 300000000000000000L);
+        assertThat(nearlyAThird.doubleValue(), is(third.doubleValue()));
+
+        assertFalse(new Coef(third).equals(new Coef(1.0 / 3)));
+        assertFalse(new Coef(third).equals(new Coef(nearlyAThird)));
+        assertTrue(new Coef(third).equals(new Coef(Rational.of(2, 6))));
+
+        Coef half = new Coef(new Term[]{new Term(Rational.of(1, 2), new Atom[]{new Atom('a')})});
+        Coef pointFive = new Coef(new Term[]{new Term(0.5, new Atom[]{new Atom('a')})});
+        assertTrue(half.equals(pointFive));
+        assertThat(half.hashCode(), is(pointFive.hashCode()));
+        assertTrue(new ImmutableCoef(half).toCoef().isExact());
+    }
+}
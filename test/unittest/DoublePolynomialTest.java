@@ -0,0 +1,110 @@
+package unittest;
+
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.DoublePolynomial;
+import org.dalton.polyfun.Polynomial;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class DoublePolynomialTest {
+
+    @Test
+    public void convertFromPolynomial() {
+        Polynomial polynomial = new Polynomial(new double[]{1, -3, 0, 2});
+        DoublePolynomial doublePolynomial = new DoublePolynomial(polynomial);
+
+        assertThat(doublePolynomial.getDegree(), is(3));
+        assertArrayEquals(new double[]{1, -3, 0, 2}, doublePolynomial.getCoefficientArray(), 0);
+        assertThat(doublePolynomial.toString(), is(polynomial.toString()));
+    }
+
+    @Test
+    public void convertRoundTrip() {
+        // Keeps the zero coefficients, including the leading one.
+        double[] coefficients = {0.1, 0, 3.0259470350715567, 0};
+        Polynomial polynomial = new DoublePolynomial(coefficients).toPolynomial();
+
+        assertThat(polynomial.getDegree(), is(3));
+        assertArrayEquals(coefficients, new DoublePolynomial(polynomial).getCoefficientArray(), 0);
+    }
+
+    @Test(expected = AssertionError.class)
+    public void convertAbstractPolynomial() {
+        new DoublePolynomial(new Polynomial(new Coef('a'), 2));
+    }
+
+    @Test
+    public void plusMatchesPolynomial() {
+        Polynomial a = new Polynomial(new double[]{1, -3, 0, 2});
+        Polynomial b = new Polynomial(new double[]{4, 3});
+
+        DoublePolynomial sum = new DoublePolynomial(a).plus(new DoublePolynomial(b));
+
+        assertThat(sum.toString(), is(a.plus(b).toString()));
+    }
+
+    @Test
+    public void minusMatchesPolynomial() {
+        Polynomial a = new Polynomial(new double[]{1, -3, 0, 2});
+        Polynomial b = new Polynomial(new double[]{4, 3, 1, 2, 5});
+
+        DoublePolynomial difference = new DoublePolynomial(a).minus(new DoublePolynomial(b));
+
+        assertThat(difference.toString(), is(a.minus(b).toString()));
+    }
+
+    @Test
+    public void timesMatchesPolynomial() {
+        Polynomial a = new Polynomial(new double[]{1, -3, 0, 2});
+        Polynomial b = new Polynomial(new double[]{4, 3, -1});
+
+        DoublePolynomial product = new DoublePolynomial(a).times(new DoublePolynomial(b));
+
+        assertThat(product.toString(), is(a.times(b).toString()));
+        assertThat(new DoublePolynomial(a).times(2.5).toString(), is(a.times(2.5).toString()));
+    }
+
+    @Test
+    public void toMatchesPolynomial() {
+        Polynomial polynomial = new Polynomial(new double[]{1, -3, 0, 2});
+        DoublePolynomial doublePolynomial = new DoublePolynomial(polynomial);
+
+        assertThat(doublePolynomial.to(0).toString(), is("1.0"));
+        assertThat(doublePolynomial.to(1).toString(), is(polynomial.toString()));
+        assertThat(doublePolynomial.to(7).toString(), is(polynomial.raiseTo(7).toString()));
+    }
+
+    @Test
+    public void ofMatchesPolynomial() {
+        Polynomial p = new Polynomial(new double[]{1, -3, 0, 2});
+        Polynomial q = new Polynomial(new double[]{2, 1, 1});
+
+        DoublePolynomial composition = new DoublePolynomial(p).of(new DoublePolynomial(q));
+
+        assertThat(composition.toString(), is(p.of(q).toString()));
+    }
+
+    @Test
+    public void eval() {
+        DoublePolynomial polynomial = new DoublePolynomial(new double[]{0, 5, -4, -10, 0, 3});
+        assertThat(polynomial.eval(2), is(10.0));
+    }
+
+    @Test
+    public void derivative() {
+        // 2x^3 - 3x + 1 -> 6x^2 - 3
+        DoublePolynomial polynomial = new DoublePolynomial(new double[]{1, -3, 0, 2});
+        assertArrayEquals(new double[]{-3, 0, 6}, polynomial.derivative().getCoefficientArray(), 0);
+
+        assertArrayEquals(new double[]{0}, new DoublePolynomial(7.0).derivative().getCoefficientArray(), 0);
+    }
+
+    @Test
+    public void constructWithDegree() {
+        DoublePolynomial polynomial = new DoublePolynomial(2.0, 3);
+        assertThat(polynomial.toString(), is(new Polynomial(2.0, 3).toString()));
+        assertThat(polynomial.getCoefficientAt(5), is(0.0));
+    }
+}
@@ -0,0 +1,59 @@
+package unittest;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.ImmutableAtom;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class ImmutableAtomTest {
+
+    @Test
+    public void convertRoundTrip() {
+        Atom atom = new Atom('b', 2, 3);
+        ImmutableAtom immutableAtom = new ImmutableAtom(atom);
+
+        assertThat(immutableAtom.toString(), is(atom.toString()));
+        assertTrue(immutableAtom.toAtom().equals(atom));
+    }
+
+    @Test
+    public void changingTheAtomDoesNotChangeTheCopy() {
+        Atom atom = new Atom('b', 2, 3);
+        ImmutableAtom immutableAtom = new ImmutableAtom(atom);
+
+        atom.setPower(5);
+
+        assertThat(immutableAtom.getPower(), is(3));
+    }
+
+    @Test
+    public void timesLikeAtom() {
+        ImmutableAtom product = new ImmutableAtom('a', 1, 2).timesLikeAtom(new ImmutableAtom('a', 1, 3));
+
+        assertThat(product.toString(), is("a_1^5"));
+    }
+
+    @Test
+    public void compareTo() {
+        assertTrue(new ImmutableAtom('a', 2, 1).compareTo(new ImmutableAtom('b', 1, 1)) < 0);
+        assertTrue(new ImmutableAtom('a', 2, 1).compareTo(new ImmutableAtom('a', 1, 1)) > 0);
+        assertTrue(new ImmutableAtom('a', 1, 1).compareTo(new ImmutableAtom('a', 1, 2)) < 0);
+        assertThat(new ImmutableAtom('a').compareTo(new ImmutableAtom('a', -1, 1)), is(0));
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        Set<ImmutableAtom> atoms = new HashSet<>();
+        atoms.add(new ImmutableAtom('a', 1, 2));
+        atoms.add(new ImmutableAtom('a', 1, 2));
+        atoms.add(new ImmutableAtom('a', 1, 3));
+
+        assertThat(atoms.size(), is(2));
+        assertTrue(atoms.contains(new ImmutableAtom(new Atom('a', 1, 3))));
+    }
+}
@@ -0,0 +1,88 @@
+package unittest;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.ImmutableCoef;
+import org.dalton.polyfun.Term;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class ImmutableCoefTest {
+
+    private static Coef coef(double a, double b, double constant) {
+        return new Coef(new Term[]{
+                new Term(b, new Atom[]{new Atom('b')}),
+                new Term(constant),
+                new Term(a, new Atom[]{new Atom('a')})});
+    }
+
+    @Test
+    public void sameStringAsCoef() {
+        Coef coef = coef(2, -3, 5);
+
+        assertThat(new ImmutableCoef(coef).toString(), is(coef.toString()));
+    }
+
+    @Test
+    public void coefIsNotChanged() {
+        Coef coef = new Coef();
+        coef.setTerms(new Term[]{new Term(2.0, new Atom[]{new Atom('a')}), new Term(3.0, new Atom[]{new Atom('a')})});
+        new ImmutableCoef(coef);
+
+        assertThat(coef.getTerms().length, is(2));
+    }
+
+    @Test
+    public void cancelledTermsAreDropped() {
+        ImmutableCoef sum = new ImmutableCoef(coef(2, 1, 0)).plus(new ImmutableCoef(coef(-2, 1, 0)));
+
+        assertThat(sum.toString(), is("2.0b"));
+        assertThat(sum.getTerms().length, is(1));
+    }
+
+    @Test
+    public void zero() {
+        ImmutableCoef zero = new ImmutableCoef(coef(2, 1, 0)).plus(new ImmutableCoef(coef(2, 1, 0)).times(-1.0));
+
+        assertTrue(zero.isZero());
+        assertTrue(zero.isConstantCoef());
+        assertThat(zero.getConstant(), is(0.0));
+        assertEquals(new ImmutableCoef(0.0), zero);
+    }
+
+    @Test
+    public void timesMatchesCoef() {
+        Coef a = coef(2, -3, 5);
+        Coef b = coef(1, 4, -1);
+
+        ImmutableCoef product = new ImmutableCoef(a).times(new ImmutableCoef(b));
+
+        assertThat(product.toString(), is(a.times(b).toString()));
+        assertThat(new ImmutableCoef(a).times(2.0).toString(), is(a.times(2.0).toString()));
+    }
+
+    @Test
+    public void constant() {
+        ImmutableCoef constant = new ImmutableCoef(7.5);
+
+        assertTrue(constant.isConstantCoef());
+        assertThat(constant.getConstant(), is(7.5));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void constantOfAbstractCoef() {
+        new ImmutableCoef(new Coef('a')).getConstant();
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        ImmutableCoef a = new ImmutableCoef(coef(2, -3, 5));
+        ImmutableCoef b = new ImmutableCoef(coef(2, -3, 5));
+
+        assertEquals(a, b);
+        assertThat(a.hashCode(), is(b.hashCode()));
+        assertNotEquals(a, new ImmutableCoef(coef(2, -3, 4)));
+    }
+}
@@ -0,0 +1,155 @@
+package unittest;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.ImmutableCoef;
+import org.dalton.polyfun.ImmutablePolynomial;
+import org.dalton.polyfun.Polynomial;
+import org.dalton.polyfun.Term;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class ImmutablePolynomialTest {
+
+    private static Polynomial abstractPolynomial() {
+        Coef[] coefs = {
+                new Coef(new Term[]{new Term(2.0, new Atom[]{new Atom('b')}), new Term(3.0)}),
+                new Coef('a'),
+                new Coef(new Term[]{new Term(-1.0, new Atom[]{new Atom('a', 1, 2)}), new Term(1.0, new Atom[]{new Atom('c')})})
+        };
+
+        return new Polynomial(coefs);
+    }
+
+    @Test
+    public void sameStringAsPolynomial() {
+        Polynomial polynomial = abstractPolynomial();
+        ImmutablePolynomial immutablePolynomial = new ImmutablePolynomial(polynomial);
+
+        assertThat(immutablePolynomial.getDegree(), is(2));
+        assertThat(immutablePolynomial.toString(), is(polynomial.toString()));
+        assertThat(immutablePolynomial.toPolynomial().toString(), is(polynomial.toString()));
+    }
+
+    @Test
+    public void arithmeticMatchesPolynomial() {
+        Polynomial p = abstractPolynomial();
+        Polynomial q = new Polynomial(new Coef('d'), 1).plus(new Polynomial(2.0));
+        ImmutablePolynomial a = new ImmutablePolynomial(p);
+        ImmutablePolynomial b = new ImmutablePolynomial(q);
+
+        assertThat(a.plus(b).toString(), is(p.plus(q).toString()));
+        assertThat(a.minus(b).toString(), is(p.minus(q).toString()));
+        assertThat(a.times(b).toString(), is(p.times(q).toString()));
+        assertThat(a.times(3.0).toString(), is(p.times(3.0).toString()));
+        assertThat(a.times(new ImmutableCoef(new Coef('d'))).toString(), is(p.times(new Coef('d')).toString()));
+        assertThat(a.raiseTo(3).toString(), is(p.raiseTo(3).toString()));
+        assertThat(a.of(b).toString(), is(p.of(q).toString()));
+    }
+
+    @Test
+    public void numericMatchesPolynomial() {
+        Polynomial p = new Polynomial(new double[]{1.5, -3, 0, 2});
+        Polynomial q = new Polynomial(new double[]{0.1, 4});
+        ImmutablePolynomial a = new ImmutablePolynomial(p);
+        ImmutablePolynomial b = new ImmutablePolynomial(q);
+
+        assertTrue(a.isPlottable());
+        assertThat(a.times(b).toString(), is(p.times(q).toString()));
+        assertThat(a.eval(1.7), is(p.eval(1.7)));
+
+        double[] xs = {-2, -1, 0, 0.5, 1, 3};
+        double[] out = new double[xs.length];
+        a.evalMany(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertThat(out[i], is(p.eval(xs[i])));
+        }
+    }
+
+    @Test
+    public void evalAbstractCoefThatCancels() {
+        Polynomial p = new Polynomial(new Coef('a'), 1).plus(new Polynomial(new Coef('a'), 1).times(-1.0));
+        ImmutablePolynomial a = new ImmutablePolynomial(p.plus(new Polynomial(2.0)));
+
+        assertTrue(a.isPlottable());
+        assertThat(a.eval(3.0), is(2.0));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void evalAbstractCoefs() {
+        new ImmutablePolynomial(abstractPolynomial()).eval(1.0);
+    }
+
+    @Test
+    public void changingThePolynomialDoesNotChangeTheCopy() {
+        Polynomial polynomial = abstractPolynomial();
+        ImmutablePolynomial immutablePolynomial = new ImmutablePolynomial(polynomial);
+        String before = immutablePolynomial.toString();
+
+        polynomial.getCoefAt(1).getTerms()[0].setNumericalCoefficient(9.0);
+        polynomial.getCoefAt(2).getTerms()[0].getAtoms()[0].setPower(7);
+
+        assertThat(immutablePolynomial.toString(), is(before));
+    }
+
+    @Test
+    public void getCoefsIsACopy() {
+        ImmutablePolynomial polynomial = new ImmutablePolynomial(abstractPolynomial());
+        String before = polynomial.toString();
+
+        polynomial.getCoefs()[0] = new ImmutableCoef(9.0);
+
+        assertThat(polynomial.toString(), is(before));
+        assertTrue(polynomial.getCoefAt(5).isZero());
+    }
+
+    @Test
+    public void keyInHashMap() {
+        Map<ImmutablePolynomial, String> map = new HashMap<>();
+        map.put(new ImmutablePolynomial(abstractPolynomial()), "p");
+
+        assertThat(map.get(new ImmutablePolynomial(abstractPolynomial())), is("p"));
+        assertNull(map.get(new ImmutablePolynomial(abstractPolynomial().times(2.0))));
+    }
+
+    @Test
+    public void degreeIsKept() {
+        ImmutablePolynomial a = new ImmutablePolynomial(new double[]{1, 2});
+        ImmutablePolynomial b = new ImmutablePolynomial(new double[]{1, 2, 0});
+
+        assertThat(b.getDegree(), is(2));
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    public void sharedBetweenThreads() throws Exception {
+        ImmutablePolynomial shared = new ImmutablePolynomial(abstractPolynomial());
+        String expected = abstractPolynomial().times(abstractPolynomial()).toString();
+
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            tasks.add(() -> shared.times(shared).toString());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<String> result : executor.invokeAll(tasks)) {
+                assertThat(result.get(), is(expected));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
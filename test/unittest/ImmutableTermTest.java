@@ -0,0 +1,68 @@
+package unittest;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.ImmutableAtom;
+import org.dalton.polyfun.ImmutableTerm;
+import org.dalton.polyfun.Term;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class ImmutableTermTest {
+
+    @Test
+    public void reducedOnConstruction() {
+        Term term = new Term(3.0, new Atom[]{new Atom('b'), new Atom('a'), new Atom('c', 1, 0), new Atom('a', -1, 2)});
+        ImmutableTerm immutableTerm = new ImmutableTerm(term);
+
+        assertThat(immutableTerm.toString(), is("3.0a^3b"));
+        assertThat(immutableTerm.getAtoms().length, is(2));
+    }
+
+    @Test
+    public void termIsNotChanged() {
+        Term term = new Term(3.0, new Atom[]{new Atom('b'), new Atom('a')});
+        new ImmutableTerm(term);
+
+        assertThat(term.toString(), is("3.0ba"));
+    }
+
+    @Test
+    public void checksDoNotChangeTheTerm() {
+        ImmutableTerm a = new ImmutableTerm(2.0, new ImmutableAtom[]{new ImmutableAtom('b'), new ImmutableAtom('a')});
+        ImmutableTerm b = new ImmutableTerm(5.0, new ImmutableAtom[]{new ImmutableAtom('a'), new ImmutableAtom('b')});
+
+        assertTrue(a.isLike(b));
+        assertFalse(a.equals(b));
+        assertThat(a.toString(), is("2.0ab"));
+    }
+
+    @Test
+    public void times() {
+        ImmutableTerm a = new ImmutableTerm(2.0, new ImmutableAtom[]{new ImmutableAtom('b'), new ImmutableAtom('a')});
+        ImmutableTerm b = new ImmutableTerm(-3.0, new ImmutableAtom[]{new ImmutableAtom('a', -1, 2)});
+
+        assertThat(a.times(b).toString(), is("-6.0a^3b"));
+        assertThat(a.times(0.5).toString(), is("ab"));
+    }
+
+    @Test
+    public void zeroTermsAreEqual() {
+        ImmutableTerm a = new ImmutableTerm(0.0, new ImmutableAtom[]{new ImmutableAtom('a')});
+        ImmutableTerm b = new ImmutableTerm(-0.0);
+
+        assertTrue(a.isZero());
+        assertEquals(a, b);
+        assertThat(a.hashCode(), is(b.hashCode()));
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        ImmutableTerm a = new ImmutableTerm(new Term(2.0, new Atom[]{new Atom('b'), new Atom('a')}));
+        ImmutableTerm b = new ImmutableTerm(new Term(2.0, new Atom[]{new Atom('a'), new Atom('b')}));
+
+        assertEquals(a, b);
+        assertThat(a.hashCode(), is(b.hashCode()));
+    }
+}
@@ -0,0 +1,151 @@
+package unittest;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.MonomialOrder;
+import org.dalton.polyfun.Term;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class MonomialOrderTest {
+
+    @After
+    public void resetDefault() {
+        MonomialOrder.setDefault(MonomialOrder.ALPHABETICAL);
+    }
+
+    private static Term term(double number, Atom... atoms) {
+        return new Term(number, atoms);
+    }
+
+    /**
+     * a^2 + ab + a + b^2 + 1, in that order.
+     */
+    private static Term[] example() {
+        return new Term[]{
+                term(1.0, new Atom('a', -1, 2)),
+                term(1.0, new Atom('a', -1, 1), new Atom('b', -1, 1)),
+                term(1.0, new Atom('a', -1, 1)),
+                term(1.0, new Atom('b', -1, 2)),
+                new Term(1.0)};
+    }
+
+    @Test
+    public void alphabeticalByDefault() {
+        assertThat(MonomialOrder.getDefault(), is(MonomialOrder.ALPHABETICAL));
+        assertThat(new Coef(example()).toString(), is("a+a^2+ab+b^2+1.0"));
+    }
+
+    @Test
+    public void lex() {
+        MonomialOrder.setDefault(MonomialOrder.LEX);
+        assertThat(new Coef(example()).toString(), is("a^2+ab+a+b^2+1.0"));
+    }
+
+    @Test
+    public void grlex() {
+        MonomialOrder.setDefault(MonomialOrder.GRLEX);
+        assertThat(new Coef(example()).toString(), is("a^2+ab+b^2+a+1.0"));
+    }
+
+    @Test
+    public void grevlexDiffersFromGrlex() {
+        Term a2c = term(1.0, new Atom('a', -1, 2), new Atom('c', -1, 1));
+        Term ab2 = term(1.0, new Atom('a', -1, 1), new Atom('b', -1, 2));
+
+        assertTrue(MonomialOrder.GRLEX.compare(a2c, ab2) < 0);
+        assertTrue(MonomialOrder.GREVLEX.compare(a2c, ab2) > 0);
+
+        MonomialOrder.setDefault(MonomialOrder.GREVLEX);
+        assertThat(new Coef(new Term[]{a2c, ab2}).toString(), is("ab^2+a^2c"));
+    }
+
+    @Test
+    public void subscriptsAfterNoSubscript() {
+        Term a = term(1.0, new Atom('a', -1, 1));
+        Term a0 = term(1.0, new Atom('a', 0, 1));
+        Term a1 = term(1.0, new Atom('a', 1, 1));
+
+        for (MonomialOrder order : new MonomialOrder[]{MonomialOrder.LEX, MonomialOrder.GRLEX, MonomialOrder.GREVLEX}) {
+            assertTrue(order.compare(a, a0) < 0);
+            assertTrue(order.compare(a0, a1) < 0);
+            assertTrue(order.compare(a, a1) < 0);
+        }
+    }
+
+    @Test
+    public void ignoresAtomOrderAndZeroPowers() {
+        Term ba = term(2.0, new Atom('b', -1, 1), new Atom('a', -1, 1));
+        Term abc0 = term(2.0, new Atom('a', -1, 1), new Atom('b', -1, 1), new Atom('c', -1, 0));
+
+        for (MonomialOrder order : MonomialOrder.values()) {
+            assertThat(order.toString(), order.compare(ba, abc0), is(0));
+        }
+    }
+
+    @Test
+    public void sameMonomialByNumber() {
+        Term a = term(2.0, new Atom('a', -1, 1));
+        Term twiceA = term(3.0, new Atom('a', -1, 1));
+
+        assertTrue(MonomialOrder.LEX.compare(a, twiceA) < 0);
+        assertTrue(MonomialOrder.LEX.compare(twiceA, a) > 0);
+    }
+
+    @Test
+    public void upperCaseBeforeLowerCase() {
+        Term a = term(1.0, new Atom('a', -1, 1));
+        Term upperA = term(1.0, new Atom('A', -1, 1));
+        Term b = term(1.0, new Atom('b', -1, 1));
+
+        assertTrue(upperA.compareTo(a) < 0);
+        assertTrue(a.compareTo(upperA) > 0);
+        assertTrue(a.compareTo(b) < 0);
+        assertTrue(MonomialOrder.ALPHABETICAL.compare(upperA, a) < 0);
+        assertTrue(MonomialOrder.ALPHABETICAL.compare(a, b) < 0);
+        assertThat(new Coef(new Term[]{b, a, upperA}).toString(), is("A+a+b"));
+    }
+
+    @Test
+    public void plusKeepsTheOrder() {
+        MonomialOrder.setDefault(MonomialOrder.GRLEX);
+        Coef sum = new Coef(example()).plus(new Coef(new Term[]{term(2.0, new Atom('b', -1, 1)), new Term(2.0)}));
+
+        assertThat(sum.toString(), is("a^2+ab+b^2+a+2.0b+3.0"));
+    }
+
+    @Test
+    public void totalOrder() {
+        Random random = new Random(3);
+        Term[] terms = new Term[100];
+
+        for (int i = 0; i < terms.length; i++) {
+            Atom[] atoms = new Atom[random.nextInt(4)];
+            for (int j = 0; j < atoms.length; j++) {
+                atoms[j] = new Atom((char) ('a' + random.nextInt(3)), random.nextInt(3) - 1, random.nextInt(4));
+            }
+            terms[i] = term(random.nextInt(3), atoms);
+        }
+
+        for (MonomialOrder order : MonomialOrder.values()) {
+            for (Term t1 : terms) {
+                for (Term t2 : terms) {
+                    assertThat(order.toString(), Integer.signum(order.compare(t1, t2)),
+                            is(-Integer.signum(order.compare(t2, t1))));
+
+                    for (int k = 0; k < 10; k++) {
+                        Term t3 = terms[random.nextInt(terms.length)];
+                        if (order.compare(t1, t2) <= 0 && order.compare(t2, t3) <= 0) {
+                            assertTrue(order.toString(), order.compare(t1, t3) <= 0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
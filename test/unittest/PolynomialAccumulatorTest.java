@@ -0,0 +1,82 @@
+package unittest;
+
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.Polynomial;
+import org.dalton.polyfun.PolynomialAccumulator;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class PolynomialAccumulatorTest {
+
+    @Test
+    public void emptyAccumulatorIsZero() {
+        PolynomialAccumulator accumulator = new PolynomialAccumulator();
+
+        assertThat(accumulator.getDegree(), is(0));
+        assertThat(accumulator.build().toString(), is(new Polynomial(0.0).plus(new Polynomial(0.0)).toString()));
+    }
+
+    @Test
+    public void addInPlaceMatchesPlus() {
+        Polynomial sum = new Polynomial(0.0D);
+        PolynomialAccumulator accumulator = new PolynomialAccumulator();
+
+        for (int i = 1; i <= 5; i++) {
+            Polynomial polynomial = new Polynomial('a', i);
+            sum = sum.plus(polynomial);
+            accumulator.addInPlace(polynomial);
+        }
+
+        assertThat(accumulator.getDegree(), is(5));
+        assertThat(accumulator.build().toString(), is(sum.toString()));
+    }
+
+    @Test
+    public void addProductMatchesTimes() {
+        Polynomial polynomial1 = new Polynomial('a', 2);
+        Polynomial polynomial2 = new Polynomial('b', 3);
+
+        Polynomial expected = polynomial1.times(polynomial2).plus(polynomial2.times(new Coef('c')));
+        Polynomial actual = new PolynomialAccumulator()
+                .addProduct(polynomial1, polynomial2)
+                .addProduct(polynomial2, new Coef('c'))
+                .build();
+
+        assertThat(actual.getDegree(), is(5));
+        assertThat(actual.toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void numericProductsAreExact() {
+        // (X+1)^2 + 2(X+1)
+        Polynomial polynomial = new Polynomial(new double[]{1, 1});
+
+        Polynomial sum = new PolynomialAccumulator()
+                .addProduct(polynomial, polynomial)
+                .addProduct(polynomial, new Coef(2.0))
+                .build();
+
+        assertThat(sum.getCoefficientArray(), is(new double[]{3.0, 4.0, 1.0}));
+    }
+
+    @Test
+    public void scaleInPlaceMatchesTimes() {
+        Polynomial polynomial = new Polynomial('a', 3);
+
+        Polynomial scaled = new PolynomialAccumulator().addInPlace(polynomial).scaleInPlace(-2.5).build();
+
+        assertThat(scaled.toString(), is(polynomial.times(-2.5).toString()));
+    }
+
+    @Test
+    public void clear() {
+        PolynomialAccumulator accumulator = new PolynomialAccumulator().addInPlace(new Polynomial('a', 4));
+
+        accumulator.clear().addInPlace(new Polynomial('b', 1));
+
+        assertThat(accumulator.getDegree(), is(1));
+        assertThat(accumulator.build().toString(), is(new Polynomial('b', 1).toString()));
+    }
+}
@@ -0,0 +1,163 @@
+package unittest;
+
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.Polynomial;
+import org.dalton.polyfun.PolynomialCache;
+import org.dalton.polyfun.Term;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class PolynomialCacheTest {
+
+    @After
+    public void turnOff() {
+        PolynomialCache.setDefault(null);
+    }
+
+    @Test
+    public void offByDefault() {
+        assertNull(PolynomialCache.getDefault());
+    }
+
+    @Test
+    public void timesHitsForEqualOperands() {
+        PolynomialCache cache = new PolynomialCache(10);
+        Polynomial a = new Polynomial('a', 2);
+        Polynomial b = new Polynomial('b', 1);
+
+        Polynomial product = cache.times(a, b);
+        Polynomial again = cache.times(new Polynomial('a', 2), new Polynomial('b', 1));
+
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(again.toString(), is(product.toString()));
+        assertThat(again.toString(), is(a.times(b).toString()));
+        assertThat(cache.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void operationsAndPowersAreKeptApart() {
+        PolynomialCache cache = new PolynomialCache(10);
+        Polynomial p = new Polynomial(new double[]{1, 1});
+
+        assertThat(cache.raiseTo(p, 2).toString(), is(p.raiseTo(2).toString()));
+        assertThat(cache.raiseTo(p, 3).toString(), is(p.raiseTo(3).toString()));
+        assertThat(cache.times(p, p).toString(), is(p.times(p).toString()));
+        assertThat(cache.of(p, p).toString(), is(p.of(p).toString()));
+
+        assertThat(cache.size(), is(4));
+        assertThat(cache.getHitCount(), is(0L));
+    }
+
+    @Test
+    public void hitsAreCopies() {
+        PolynomialCache cache = new PolynomialCache(10);
+        Polynomial p = new Polynomial('a', 1);
+
+        Polynomial first = cache.raiseTo(p, 2);
+        cache.raiseTo(p, 2).getCoefAt(0).insert(new Term(5.0));
+
+        assertThat(cache.raiseTo(p, 2).toString(), is(first.toString()));
+    }
+
+    @Test
+    public void changingAnOperandDoesNotChangeTheCache() {
+        PolynomialCache cache = new PolynomialCache(10);
+        Polynomial p = new Polynomial('a', 1);
+        String square = cache.times(p, p).toString();
+
+        p.getCoefAt(0).insert(new Term(1.0));
+
+        assertThat(cache.times(p, p).toString(), is(p.times(p).toString()));
+        assertThat(cache.times(new Polynomial('a', 1), new Polynomial('a', 1)).toString(), is(square));
+        assertThat(cache.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void leastRecentlyUsedIsDropped() {
+        PolynomialCache cache = new PolynomialCache(2);
+        Polynomial p = new Polynomial(new double[]{1, 2});
+
+        cache.raiseTo(p, 2);
+        cache.raiseTo(p, 3);
+        cache.raiseTo(p, 2);
+        cache.raiseTo(p, 4);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getEvictionCount(), is(1L));
+
+        cache.raiseTo(p, 2);
+        assertThat(cache.getHitCount(), is(2L));
+
+        cache.raiseTo(p, 3);
+        assertThat(cache.getMissCount(), is(4L));
+    }
+
+    @Test
+    public void byteLimit() {
+        PolynomialCache cache = new PolynomialCache(100, 1);
+        Polynomial p = new Polynomial('a', 3);
+
+        cache.raiseTo(p, 2);
+        cache.raiseTo(p, 3);
+
+        // Always keeps the newest result, even if it's over the limit on its own.
+        assertThat(cache.size(), is(1));
+        assertTrue(cache.getBytes() > 1);
+    }
+
+    @Test(expected = AssertionError.class)
+    public void noRoom() {
+        new PolynomialCache(0);
+    }
+
+    @Test
+    public void polynomialMethodsUseTheDefault() {
+        PolynomialCache cache = new PolynomialCache(100);
+        PolynomialCache.setDefault(cache);
+
+        Polynomial p = new Polynomial('a', 2);
+        Polynomial q = new Polynomial(new Coef[]{new Coef('b'), new Coef(1.0)});
+
+        String composition = p.of(q).toString();
+        long misses = cache.getMissCount();
+
+        assertThat(p.of(q).toString(), is(composition));
+        assertThat(cache.getMissCount(), is(misses));
+        assertThat(cache.getHitCount(), is(1L));
+
+        PolynomialCache.setDefault(null);
+        assertThat(p.of(q).toString(), is(composition));
+    }
+
+    @Test
+    public void changingATermInPlaceDoesNotHitTheOldResult() {
+        PolynomialCache.setDefault(new PolynomialCache(10));
+        Polynomial p = new Polynomial(new Coef[]{new Coef(1.0), new Coef('a')});
+
+        assertThat(p.times(p).toString(), is("(a^2)X^2+(2.0a)X+1.0"));
+
+        p.getCoefAt(1).getTerms()[0].setNumericalCoefficient(3);
+        assertThat(p.times(p).toString(), is("(9.0a^2)X^2+(6.0a)X+1.0"));
+        assertThat(p.raiseTo(2).toString(), is("(9.0a^2)X^2+(6.0a)X+1.0"));
+
+        p.getCoefAt(1).getTerms()[0].getAtoms()[0].setPower(2);
+        assertThat(p.of(p).toString(), is(new PolynomialCache(10).of(p, p).toString()));
+        assertThat(p.times(p).toString(), is("(9.0a^4)X^2+(6.0a^2)X+1.0"));
+    }
+
+    @Test
+    public void clear() {
+        PolynomialCache cache = new PolynomialCache(10);
+        cache.raiseTo(new Polynomial('a', 1), 2);
+
+        cache.clear();
+
+        assertThat(cache.size(), is(0));
+        assertThat(cache.getBytes(), is(0L));
+        assertThat(cache.getMissCount(), is(0L));
+    }
+}
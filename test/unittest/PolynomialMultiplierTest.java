@@ -0,0 +1,185 @@
+package unittest;
+
+import org.dalton.polyfun.DoublePolynomial;
+import org.dalton.polyfun.Polynomial;
+import org.dalton.polyfun.PolynomialMultiplier;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class PolynomialMultiplierTest {
+
+    private static final PolynomialMultiplier SCHOOLBOOK =
+            new PolynomialMultiplier(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    private static double[] randomCoefficients(Random random, int length) {
+        double[] coefficients = new double[length];
+
+        for (int i = 0; i < length; i++) {
+            coefficients[i] = random.nextDouble() * 20 - 10;
+        }
+
+        return coefficients;
+    }
+
+    private static void assertClose(double[] expected, double[] actual, double tolerance) {
+        assertThat(actual.length, is(expected.length));
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("coefficient " + i, expected[i], actual[i], tolerance);
+        }
+    }
+
+    @Test
+    public void karatsubaMatchesSchoolbook() {
+        Random random = new Random(1);
+        PolynomialMultiplier karatsuba = new PolynomialMultiplier(4, Integer.MAX_VALUE);
+
+        for (int length = 1; length < 70; length += 7) {
+            double[] a = randomCoefficients(random, length);
+            double[] b = randomCoefficients(random, length + 3);
+
+            assertClose(SCHOOLBOOK.multiply(a, b), karatsuba.multiply(a, b), 1e-9);
+            assertClose(SCHOOLBOOK.multiply(b, a), karatsuba.multiply(b, a), 1e-9);
+        }
+    }
+
+    @Test
+    public void karatsubaUnbalanced() {
+        Random random = new Random(2);
+        PolynomialMultiplier karatsuba = new PolynomialMultiplier(4, Integer.MAX_VALUE);
+
+        double[] a = randomCoefficients(random, 10);
+        double[] b = randomCoefficients(random, 107);
+
+        assertClose(SCHOOLBOOK.multiply(a, b), karatsuba.multiply(a, b), 1e-9);
+    }
+
+    @Test
+    public void karatsubaIntegersAreExact() {
+        double[] a = new double[100];
+        double[] b = new double[90];
+        for (int i = 0; i < a.length; i++) a[i] = i % 7 - 3;
+        for (int i = 0; i < b.length; i++) b[i] = i % 5 + 1;
+
+        PolynomialMultiplier karatsuba = new PolynomialMultiplier(4, Integer.MAX_VALUE);
+        karatsuba.setExactIntegers(false);
+
+        assertArrayEquals(SCHOOLBOOK.multiply(a, b), karatsuba.multiply(a, b), 0);
+    }
+
+    @Test
+    public void multiplyExactMatchesBigIntegerSchoolbook() {
+        Random random = new Random(5);
+        long[] a = new long[300];
+        long[] b = new long[200];
+        for (int i = 0; i < a.length; i++) a[i] = random.nextLong();
+        for (int i = 0; i < b.length; i++) b[i] = random.nextInt(2001) - 1000;
+
+        BigInteger[] expected = new BigInteger[a.length + b.length - 1];
+        Arrays.fill(expected, BigInteger.ZERO);
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b.length; j++) {
+                expected[i + j] = expected[i + j].add(BigInteger.valueOf(a[i]).multiply(BigInteger.valueOf(b[j])));
+            }
+        }
+
+        assertArrayEquals(expected, PolynomialMultiplier.getDefault().multiplyExact(a, b));
+    }
+
+    @Test
+    public void multiplyExactSmallValues() {
+        BigInteger[] product = PolynomialMultiplier.getDefault().multiplyExact(new long[]{1, -3, 0, 2}, new long[]{4, 3, -1});
+        long[] expected = {4, -9, -10, 11, 6, -2};
+
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(product[i], is(BigInteger.valueOf(expected[i])));
+        }
+
+        assertThat(PolynomialMultiplier.getDefault().multiplyExact(new long[]{0, 0}, new long[]{0})[1], is(BigInteger.ZERO));
+    }
+
+    @Test
+    public void exactIntegersRoundOnce() {
+        // Each product is about 2^60, so adding them up as doubles rounds at every step.
+        double big = (1L << 30) + 1;
+        double[] a = new double[40];
+        double[] b = new double[40];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = big + i;
+            b[i] = big - 2 * i;
+        }
+
+        BigInteger sum = BigInteger.ZERO;
+        for (int i = 0; i < a.length; i++) {
+            sum = sum.add(BigInteger.valueOf((long) a[i]).multiply(BigInteger.valueOf((long) b[a.length - 1 - i])));
+        }
+
+        double[] product = new PolynomialMultiplier().multiply(a, b);
+        assertThat(product[a.length - 1], is(sum.doubleValue()));
+    }
+
+    @Test
+    public void polynomialTimesLargeIntegers() {
+        // (X + 2^40)^2 = X^2 + 2^41 X + 2^80, all exactly representable.
+        Polynomial polynomial = new Polynomial(new double[]{0x1p40, 1});
+        double[] square = polynomial.times(polynomial).getCoefficientArray();
+
+        assertArrayEquals(new double[]{0x1p80, 0x1p41, 1}, square, 0);
+    }
+
+    @Test
+    public void fftMatchesSchoolbook() {
+        Random random = new Random(3);
+        PolynomialMultiplier fft = new PolynomialMultiplier(2, 1);
+
+        for (int length = 1; length < 300; length += 37) {
+            double[] a = randomCoefficients(random, length);
+            double[] b = randomCoefficients(random, 2 * length + 1);
+
+            assertClose(SCHOOLBOOK.multiply(a, b), fft.multiply(a, b), 1e-9);
+        }
+    }
+
+    @Test
+    public void defaultMultiplierLargeDegree() {
+        Random random = new Random(4);
+        double[] a = randomCoefficients(random, 3000);
+        double[] b = randomCoefficients(random, 2500);
+
+        assertClose(SCHOOLBOOK.multiply(a, b), PolynomialMultiplier.getDefault().multiply(a, b), 1e-8);
+    }
+
+    @Test
+    public void polynomialTimesUsesNumericCoefficients() {
+        Polynomial a = new Polynomial(new double[]{1, -3, 0, 2});
+        Polynomial b = new Polynomial(new double[]{4, 3, -1});
+
+        assertThat(a.times(b).toString(), is("(-2.0)X^5+(6.0)X^4+(11.0)X^3+(-10.0)X^2+(-9.0)X+4.0"));
+    }
+
+    @Test
+    public void doublePolynomialLargeDegree() {
+        // (1+X)^200 * (1-X)^200 = (1-X^2)^200
+        DoublePolynomial plus = new DoublePolynomial(new double[]{1, 1}).to(200);
+        DoublePolynomial minus = new DoublePolynomial(new double[]{1, -1}).to(200);
+        DoublePolynomial product = plus.times(minus);
+
+        assertThat(product.getDegree(), is(400));
+        assertEquals(-200.0, product.getCoefficientAt(2), 1e-6);
+        assertEquals(0.0, product.getCoefficientAt(3), 1e-6);
+    }
+
+    @Test
+    public void thresholds() {
+        PolynomialMultiplier multiplier = new PolynomialMultiplier(0, 64);
+        assertThat(multiplier.getKaratsubaThreshold(), is(2));
+        assertThat(multiplier.getFftThreshold(), is(64));
+        assertTrue(multiplier.isExactIntegers());
+    }
+}
@@ -0,0 +1,75 @@
+package unittest;
+
+import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.Polynomial;
+import org.dalton.polyfun.PolynomialPowers;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class PolynomialPowersTest {
+
+    @Test
+    public void raiseToZero() {
+        PolynomialPowers powers = new PolynomialPowers(new Polynomial(new double[]{1, 1}));
+        assertThat(powers.raiseTo(0).toString(), is("1.0"));
+        assertThat(powers.raiseTo(-2).toString(), is("1.0"));
+    }
+
+    @Test
+    public void raiseTo32MatchesRepeatedMultiplication() {
+        // (X+1)^32 has small integer coefficients, so both ways of computing it must match exactly.
+        Polynomial polynomial = new Polynomial(new double[]{1, 1});
+
+        Polynomial expected = new Polynomial(1.0);
+        for (int i = 0; i < 32; i++) {
+            expected = polynomial.times(expected);
+        }
+
+        Polynomial actual = new PolynomialPowers(polynomial).raiseTo(32);
+
+        assertThat(actual.getDegree(), is(32));
+        assertThat(actual.toString(), is(expected.toString()));
+        assertThat(actual.getCoefficientArray()[16], is(601080390.0));
+    }
+
+    @Test
+    public void raiseToAbstractCoefs() {
+        // (a_1X+a_0)^6
+        Polynomial polynomial = new Polynomial('a', 1);
+        Polynomial expected = polynomial.times(polynomial).times(polynomial);
+        expected = expected.times(expected);
+
+        assertThat(new PolynomialPowers(polynomial).raiseTo(6).toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void powersAreReused() {
+        PolynomialPowers powers = new PolynomialPowers(new Polynomial(new double[]{1, -3, 0, 2}));
+
+        Polynomial eighth = powers.raiseTo(8);
+
+        assertSame(eighth, powers.raiseTo(8));
+        assertThat(powers.raiseTo(9).toString(), is(powers.getBase().times(eighth).toString()));
+    }
+
+    @Test
+    public void raiseToMatchesTo() {
+        Polynomial polynomial = new Polynomial(new double[]{1, -3, 0, 2});
+        assertThat(polynomial.raiseTo(10).toString(), is(polynomial.to(10).toString()));
+        assertThat(polynomial.raiseTo(1).toString(), is(polynomial.toString()));
+    }
+
+    @Test
+    public void firstPowerIsACopy() {
+        Polynomial polynomial = new Polynomial(new double[]{9, 2});
+        Polynomial first = polynomial.raiseTo(1);
+
+        first.getCoefs()[0].setTerms(new Coef(4.0).getTerms());
+        first.getCoefAt(1).getTerms()[0].setNumericalCoefficient(5.0);
+
+        assertThat(polynomial.toString(), is("(2.0)X+9.0"));
+        assertThat(first.toString(), is("(5.0)X+4.0"));
+    }
+}
@@ -2,7 +2,9 @@ package unittest;
 
 import org.dalton.polyfun.Atom;
 import org.dalton.polyfun.Coef;
+import org.dalton.polyfun.ImmutablePolynomial;
 import org.dalton.polyfun.Polynomial;
+import org.dalton.polyfun.Rational;
 import org.dalton.polyfun.Term;
 import org.junit.After;
 import org.junit.Assert;
@@ -11,6 +13,9 @@ import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
 
 import unittest.testlib.*;
 
@@ -493,6 +498,123 @@ public class PolynomialTest {
         assertThat(polynomial.evaluateWith(3), is(27.0));
     }
 
+    @Test
+    public void evaluateWithZeroCoefs() {
+        // 2X^3 has zero Coefs for X^2, X and the constant.
+        Polynomial polynomial = new Polynomial(2.0, 3);
+        assertThat(polynomial.eval(2), is(16.0));
+        assertThat(polynomial.eval(-1), is(-2.0));
+    }
+
+    @Test
+    public void evaluateWithCancelledAbstractCoef() {
+        // (a-a)X^2 + 3X + 1 is plottable once a-a cancels.
+        Coef cancelled = new Coef('a').plus(new Coef('a').times(-1));
+        Polynomial polynomial = new Polynomial(new Coef[]{new Coef(1), new Coef(3), cancelled});
+        assertThat(polynomial.eval(2), is(7.0));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void evaluateAbstractCoefs() {
+        Polynomial polynomial = new Polynomial('a', 2);
+        polynomial.eval(2);
+    }
+
+    @Test
+    public void evalManyMatchesEval() {
+        Polynomial polynomial = new Polynomial(new double[]{0, 5, -4, -10, 0, 3});
+        double[] xs = {-2, -1, 0, 0.5, 1, 2};
+        double[] out = new double[xs.length];
+
+        polynomial.evalMany(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertThat(out[i], is(polynomial.eval(xs[i])));
+        }
+    }
+
+    @Test
+    public void evalManyLanesMatchEval() {
+        // Under the java17 Maven profile the tests must run with the Vector API, so the vector lanes are tested.
+        if ("required".equals(System.getProperty("polyfun.vectorApi"))) {
+            assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        }
+
+        Random random = new Random(7);
+
+        for (int degree = 0; degree <= 20; degree++) {
+            double[] numbers = new double[degree + 1];
+            for (int k = 0; k <= degree; k++) numbers[k] = random.nextDouble() * 20 - 10;
+            Polynomial polynomial = new Polynomial(numbers);
+
+            // Not a multiple of any vector length, so vector lanes, 4-point lanes and single points all run.
+            double[] xs = new double[1003];
+            for (int i = 0; i < xs.length; i++) xs[i] = random.nextDouble() * 4 - 2;
+            double[] out = new double[xs.length];
+
+            polynomial.evalMany(xs, out);
+
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(Double.doubleToLongBits(polynomial.eval(xs[i])), Double.doubleToLongBits(out[i]));
+            }
+        }
+    }
+
+    @Test
+    public void evalManyInParallel() {
+        Polynomial polynomial = new Polynomial(new double[]{1, -3, 0, 2});
+        double[] xs = new double[100000];
+        for (int i = 0; i < xs.length; i++) xs[i] = i / 1000.0 - 50;
+
+        double[] out = new double[xs.length];
+        polynomial.evalMany(xs, out);
+
+        double[] sequential = new double[xs.length];
+        polynomial.evalMany(xs, sequential, null);
+
+        double[] pooled = new double[xs.length];
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            polynomial.evalMany(xs, pooled, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertArrayEquals(sequential, out, 0);
+        assertArrayEquals(sequential, pooled, 0);
+        assertThat(out[12345], is(polynomial.eval(xs[12345])));
+    }
+
+    @Test
+    public void evalManyAbstractCoefsAtZero() {
+        // (a_1)X has an abstract coefficient, but is still a number at X = 0.
+        Polynomial polynomial = new Polynomial(new Atom('a', 1, 1), 1);
+        double[] out = new double[1];
+
+        polynomial.evalMany(new double[]{0}, out);
+
+        assertThat(out[0], is(0.0));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void evalManyShortOutput() {
+        new Polynomial(2).evalMany(new double[3], new double[2]);
+    }
+
+    @Test
+    public void evalManyStream() {
+        Polynomial polynomial = new Polynomial(new double[]{1, -3, 0, 2});
+        double[] out = polynomial.evalMany(DoubleStream.of(0, 1, 2, 3)).toArray();
+
+        assertArrayEquals(new double[]{1, 0, 11, 46}, out, 0);
+    }
+
+    @Test
+    public void evaluateToCoefNumeric() {
+        Polynomial polynomial = new Polynomial(new double[]{1, -3, 0, 2});
+        assertThat(polynomial.evaluateToCoef(3).toString(), is("46.0"));
+    }
+
     @Test
     public void minusCompareToPolyfunOld() {
         // Create 2 identical polynomials
@@ -874,4 +996,103 @@ public class PolynomialTest {
             }
         }
     }
+
+    @Test
+    public void equalsObjectAndHashCode() {
+        Polynomial polynomial = new Polynomial('a', 2);
+        Polynomial same = new Polynomial('a', 2).plus(new Polynomial('b', 2)).minus(new Polynomial('b', 2));
+
+        assertTrue(polynomial.equals(same));
+        assertEquals(polynomial.hashCode(), same.hashCode());
+        assertFalse(polynomial.equals(new Polynomial('a', 3)));
+        assertFalse(polynomial.equals(new Polynomial('b', 2)));
+    }
+
+    @Test
+    public void equalsSeesChangedCoefs() {
+        Polynomial polynomial = new Polynomial(new double[]{1, 2});
+        Polynomial other = new Polynomial(new double[]{1, 2});
+        int hashCode = polynomial.hashCode();
+
+        polynomial.getCoefAt(1).insert(new Term(1.0));
+
+        assertFalse(polynomial.equals(other));
+        assertNotEquals(hashCode, polynomial.hashCode());
+        assertTrue(polynomial.equals(new Polynomial(new double[]{1, 3})));
+    }
+
+    @Test
+    public void equalsSeesTermsChangedInPlace() {
+        Polynomial polynomial = new Polynomial(new Coef[]{new Coef(1.0), new Coef('a')});
+        Polynomial same = new Polynomial(new Coef[]{new Coef(1.0), new Coef('a')});
+        assertTrue(polynomial.equals(same));
+
+        polynomial.getCoefAt(1).getTerms()[0].setNumericalCoefficient(9.0);
+
+        assertFalse(polynomial.equals(same));
+        assertThat(polynomial.toString(), is("(9.0a)X+1.0"));
+    }
+
+    @Test
+    public void hashCodeMatchesImmutableCopy() {
+        Polynomial polynomial = new Polynomial('c', 3).times(new Polynomial(new double[]{0.5, 1}));
+
+        assertEquals(new ImmutablePolynomial(polynomial).hashCode(), polynomial.hashCode());
+    }
+
+    @Test
+    public void timesInPoolMatchesOneThread() {
+        // 64 * 64 Term products, enough to split the degrees across the pool.
+        Polynomial polynomial1 = new Polynomial('a', 63);
+        Polynomial polynomial2 = new Polynomial('b', 63).plus(new Polynomial(new double[]{0.5, 0.25}));
+
+        Polynomial expected = polynomial1.times(polynomial2, null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Polynomial actual;
+        try {
+            actual = polynomial1.times(polynomial2, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(126, actual.getDegree());
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.toString(), polynomial1.times(polynomial2).toString());
+    }
+
+    @Test
+    public void ofInPoolMatchesOneThread() {
+        // The powers of the inner polynomial have enough Terms to split the degrees across the pool.
+        Polynomial outer = new Polynomial('a', 8);
+        Polynomial inner = new Polynomial('b', 3).plus(new Polynomial(new double[]{0.5, 0.25}));
+
+        Polynomial expected = outer.of(inner, null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Polynomial actual;
+        try {
+            actual = outer.of(inner, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(24, actual.getDegree());
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.toString(), outer.of(inner).toString());
+    }
+
+    @Test
+    public void exactPolynomial() {
+        Polynomial p = new Polynomial(new Rational[]{Rational.of(1, 3), Rational.of(2, 7)});
+        Polynomial cube = p.raiseTo(3);
+
+        assertTrue(cube.isExact());
+        assertThat(cube.getCoefAt(1).getTerms()[0].getExactCoefficient(), is(Rational.of(2, 21)));
+        assertThat(cube.getCoefAt(3).getTerms()[0].getExactCoefficient(), is(Rational.of(8, 343)));
+
+        // p^3 - p*p*p is exactly zero, even though 1/3 and 2/7 aren't doubles.
+        Polynomial difference = cube.minus(p.times(p).times(p));
+        for (int i = 0; i <= difference.getDegree(); i++) {
+            assertTrue(difference.getCoefAt(i).isZero());
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package unittest;
+
+import org.dalton.polyfun.Rational;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class RationalTest {
+
+    @Test
+    public void lowestTerms() {
+        assertThat(Rational.of(6, -8).toString(), is("-3/4"));
+        assertThat(Rational.of(10, 5).toString(), is("2"));
+        assertThat(Rational.of(0, -7), is(Rational.ZERO));
+        assertThat(Rational.of(4, 6), is(Rational.of(2, 3)));
+        assertThat(Rational.of(4, 6).hashCode(), is(Rational.of(2, 3).hashCode()));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void zeroDenominator() {
+        Rational.of(1, 0);
+    }
+
+    @Test
+    public void valueOfReadsTheDecimal() {
+        assertThat(Rational.valueOf(0.1), is(Rational.of(1, 10)));
+        assertThat(Rational.valueOf(-2.5e-7), is(Rational.of(-1, 4000000)));
+        assertThat(Rational.valueOf(3.0), is(Rational.of(3)));
+        assertThat(Rational.valueOf(1e300).getNumerator(), is(BigInteger.TEN.pow(300)));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void valueOfNaN() {
+        Rational.valueOf(Double.NaN);
+    }
+
+    @Test
+    public void decimalsCancel() {
+        Rational sum = Rational.valueOf(0.1).plus(Rational.valueOf(0.2)).minus(Rational.valueOf(0.3));
+
+        assertThat(sum, is(Rational.ZERO));
+        assertThat(sum.signum(), is(0));
+        assertNotEquals(0.0, 0.1 + 0.2 - 0.3);
+    }
+
+    @Test
+    public void arithmetic() {
+        Rational third = Rational.of(1, 3);
+        Rational half = Rational.of(1, 2);
+
+        assertThat(third.plus(half), is(Rational.of(5, 6)));
+        assertThat(third.minus(half), is(Rational.of(-1, 6)));
+        assertThat(third.times(half), is(Rational.of(1, 6)));
+        assertThat(third.dividedBy(half), is(Rational.of(2, 3)));
+        assertThat(half.negate(), is(Rational.of(-1, 2)));
+        assertTrue(third.compareTo(half) < 0);
+        assertEquals(1.0 / 3, third.doubleValue(), 0.0);
+    }
+
+    @Test
+    public void overflowsToBigIntegers() {
+        Rational max = Rational.of(Long.MAX_VALUE);
+        Rational sum = max.plus(Rational.ONE);
+
+        assertThat(sum.getNumerator(), is(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)));
+        assertThat(max.times(max).getNumerator(), is(BigInteger.valueOf(Long.MAX_VALUE).pow(2)));
+
+        // Back in longs once it fits again.
+        assertThat(sum.minus(Rational.ONE), is(max));
+        assertThat(Rational.of(Long.MIN_VALUE).negate().minus(Rational.ONE), is(max));
+    }
+
+    @Test
+    public void bigDenominators() {
+        Rational third = Rational.of(1, 3);
+        Rational power = Rational.ONE;
+
+        for (int i = 0; i < 60; i++) {
+            power = power.times(third);
+        }
+
+        assertThat(power.getDenominator(), is(BigInteger.valueOf(3).pow(60)));
+        assertEquals(Math.pow(3, -60), power.doubleValue(), 1e-40);
+        assertThat(power.times(Rational.of(3).dividedBy(third)).getDenominator(), is(BigInteger.valueOf(3).pow(58)));
+    }
+}
@@ -1,6 +1,7 @@
 package unittest;
 
 import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.Rational;
 import org.dalton.polyfun.Term;
 import org.junit.After;
 import org.junit.Assert;
@@ -264,6 +265,41 @@ public class TermTest {
         assertThat(term.toString(), is("3.0a_1^2b_1^3"));
     }
 
+    @Test
+    public void reduceManyAtoms() {
+        // Far more Atoms than a recursive insert could handle, in reverse order.
+        Atom[] atoms = new Atom[100000];
+
+        for (int i = 0; i < atoms.length; i++) {
+            atoms[i] = new Atom((char) ('z' - i % 26), 1, i % 3 == 0 ? 0 : 1);
+        }
+
+        Term term = new Term(2.0, atoms);
+        term.reduce();
+
+        assertEquals(26, term.getAtoms().length);
+        assertEquals('a', term.getAtoms()[0].getLetter());
+        assertEquals(2564, term.getAtoms()[0].getPower());
+        assertEquals('z', term.getAtoms()[25].getLetter());
+        assertEquals(2564, term.getAtoms()[25].getPower());
+    }
+
+    @Test
+    public void insertInTheMiddle() {
+        Atom[] atoms = {new Atom('a', -1, 1), new Atom('b', 2, 1), new Atom('d', -1, 1)};
+        Term term = new Term(1.0, atoms);
+
+        term.insert(new Atom('b', 1, 2));
+        assertThat(term.toString(), is("ab_1^2b_2d"));
+
+        term.insert(new Atom('b', 2, 3));
+        assertThat(term.toString(), is("ab_1^2b_2^4d"));
+
+        // The Term is changed, but not the array it was made with.
+        assertEquals(3, atoms.length);
+        assertEquals(1, atoms[1].getPower());
+    }
+
     @Test
     public void timesTerm() {
         Atom atom = new Atom('a', 1, 3);
@@ -338,6 +374,14 @@ public class TermTest {
         assertThat(term.equals(newTerm), is(true));
     }
 
+    @Test
+    public void isLikeTerm() {
+        Term newTerm = new Term(2, new Atom[]{new Atom('a', 1, 2)});
+
+        assertThat(term.isLikeTerm(newTerm), is(true));
+        assertThat(term.isLikeTerm(new Term(2, new Atom[]{new Atom('a', 1, 3)})), is(false));
+    }
+
     @Test
     @SuppressWarnings("deprecation")
     public void like() {
@@ -382,4 +426,83 @@ public class TermTest {
 
         assertThat(newTerm.isConstantTerm(), is(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void timesCombinesAndOrdersAtoms() {
+        Term a = new Term(2.0, new Atom[]{new Atom('c'), new Atom('a', 1, 2), new Atom('b', 2, 1)});
+        Term b = new Term(-1.5, new Atom[]{new Atom('b', 2, 3), new Atom('a', 1, 1), new Atom('a', -1, 1)});
+
+        assertThat(a.times(b).toString(), is("-3.0aa_1^3b_2^4c"));
+    }
+
+    @Test
+    public void timesDropsPowersThatCancel() {
+        Term a = new Term(2.0, new Atom[]{new Atom('a', 1, 2), new Atom('b')});
+        Term b = new Term(3.0, new Atom[]{new Atom('a', 1, -2)});
+
+        assertThat(a.times(b).toString(), is("6.0b"));
+    }
+
+    @Test
+    public void equalsAndIsLikeIgnoreAtomOrder() {
+        Term a = new Term(2.0, new Atom[]{new Atom('b'), new Atom('a', 1, 2), new Atom('a', 1, 1)});
+        Term b = new Term(5.0, new Atom[]{new Atom('a', 1, 3), new Atom('b')});
+        Term c = new Term(5.0, new Atom[]{new Atom('a', 1, 1), new Atom('b')});
+
+        assertThat(a.equals(b), is(true));
+        assertThat(a.equals(c), is(false));
+        assertThat(a.isLikeTerm(b), is(true));
+        assertThat(a.isLikeTerm(c), is(false));
+        assertThat(a.isLike(c), is(true));
+
+        // Neither Term is reduced by comparing them.
+        assertThat(a.toString(), is("2.0ba_1^2a_1"));
+    }
+
+    @Test
+    public void equalsTermIgnoresCoefficient() {
+        Term a = new Term(2.0, new Atom[]{new Atom('a')});
+        Term b = new Term(3.0, new Atom[]{new Atom('a')});
+
+        assertThat(a.equals(b), is(true));
+        assertThat(a.equals((Object) b), is(false));
+    }
+
+    @Test
+    public void equalsObjectComparesCoefficientAndIgnoresOrder() {
+        Object term = new Term(2.0, new Atom[]{new Atom('a'), new Atom('b', 1, 2)});
+        Term same = new Term(2.0, new Atom[]{new Atom('b', 1, 2), new Atom('a')});
+
+        Assert.assertTrue(term.equals(same));
+        assertEquals(term.hashCode(), same.hashCode());
+        Assert.assertFalse(term.equals(new Term(3.0, new Atom[]{new Atom('b', 1, 2), new Atom('a')})));
+        Assert.assertFalse(term.equals(new Term(2.0, new Atom[]{new Atom('a')})));
+        Assert.assertFalse(term.equals(null));
+    }
+
+    @Test
+    public void equalsSeesAtomsChangedInPlace() {
+        Term a = new Term(2.0, new Atom[]{new Atom('a', 1, 2)});
+        Term b = new Term(2.0, new Atom[]{new Atom('a', 1, 2)});
+
+        assertThat(a.equals(b), is(true));
+
+        a.getAtoms()[0].setPower(3);
+        assertThat(a.equals(b), is(false));
+        assertThat(a.isLikeTerm(new Term(5.0, new Atom[]{new Atom('a', 1, 3)})), is(true));
+
+        a.getAtoms()[0] = new Atom('b', 1, 2);
+        assertThat(a.isLike(b), is(false));
+        assertThat(a.times(b).toString(), is("4.0a_1^2b_1^2"));
+    }
+
+    @Test
+    public void equalsComparesExactNumbers() {
+        Atom[] atoms = {new Atom('a')};
+        Object half = new Term(Rational.of(1, 2), atoms);
+
+        Assert.assertTrue(half.equals(new Term(0.5, atoms)));
+        assertEquals(half.hashCode(), new Term(0.5, atoms).hashCode());
+        Assert.assertFalse(new Term(Rational.of(1, 3), atoms).equals((Object) new Term(1.0 / 3, atoms)));
+    }
+}
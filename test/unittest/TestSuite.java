@@ -9,7 +9,20 @@ import org.junit.runners.Suite;
         PolynomialTest.class,
         CoefTest.class,
         TermTest.class,
-        AtomTest.class
+        AtomTest.class,
+        PolynomialPowersTest.class,
+        DoublePolynomialTest.class,
+        PolynomialMultiplierTest.class,
+        ImmutableAtomTest.class,
+        ImmutableTermTest.class,
+        ImmutableCoefTest.class,
+        ImmutablePolynomialTest.class,
+        VariableRegistryTest.class,
+        CoefBuilderTest.class,
+        PolynomialAccumulatorTest.class,
+        PolynomialCacheTest.class,
+        MonomialOrderTest.class,
+        RationalTest.class
 })
 
 
@@ -0,0 +1,78 @@
+package unittest;
+
+import org.dalton.polyfun.Atom;
+import org.dalton.polyfun.VariableRegistry;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.*;
+
+public class VariableRegistryTest {
+
+    @Test
+    public void sameVariableSameId() {
+        int id = VariableRegistry.idOf('q', 7);
+
+        assertThat(VariableRegistry.idOf('q', 7), is(id));
+        assertThat(VariableRegistry.idOf(new Atom('q', 7, 3)), is(id));
+        assertThat(VariableRegistry.letterOf(id), is('q'));
+        assertThat(VariableRegistry.subscriptOf(id), is(7));
+    }
+
+    @Test
+    public void differentVariablesDifferentIds() {
+        assertNotEquals(VariableRegistry.idOf('q', 1), VariableRegistry.idOf('q', 2));
+        assertNotEquals(VariableRegistry.idOf('q', -1), VariableRegistry.idOf('r', -1));
+    }
+
+    @Test
+    public void noSubscript() {
+        int id = VariableRegistry.idOf(new Atom('q'));
+
+        assertThat(VariableRegistry.subscriptOf(id), is(-1));
+    }
+
+    @Test
+    public void compareMatchesIsLessThan() {
+        // Registered out of order on purpose.
+        Atom[] atoms = {new Atom('z', 2, 1), new Atom('m', -1, 1), new Atom('z', 1, 4), new Atom('m', 3, 2)};
+
+        for (Atom x : atoms) {
+            for (Atom y : atoms) {
+                int comparison = VariableRegistry.compare(VariableRegistry.idOf(x), VariableRegistry.idOf(y));
+
+                assertThat(comparison < 0, is(x.isLessThan(y)));
+                assertThat(comparison > 0, is(y.isLessThan(x)));
+            }
+        }
+    }
+
+    @Test
+    public void idsAreSharedBetweenThreads() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<?>[] futures = new Future<?>[4];
+
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = pool.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        int id = VariableRegistry.idOf('k', i);
+                        assertThat(VariableRegistry.subscriptOf(id), is(i));
+                        assertThat(VariableRegistry.letterOf(id), is('k'));
+                    }
+                });
+            }
+
+            for (Future<?> future : futures) future.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(VariableRegistry.size() >= 500);
+    }
+}